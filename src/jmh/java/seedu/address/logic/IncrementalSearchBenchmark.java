@@ -0,0 +1,94 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersonGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Measures how long searching while typing a {@code find} command takes, from when the search starts to when its
+ * result is ready, without waiting for the text to stop changing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IncrementalSearchBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path directory;
+    private IncrementalSearch incrementalSearch;
+    private boolean isFirstKeyword;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jmh-search");
+        ModelManager model = new ModelManager();
+        model.setPersons(new PersonGenerator(SEED).generate(size));
+        Logic logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(directory.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(directory.resolve("userPrefs.json"))));
+        incrementalSearch = new IncrementalSearch(logic, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        incrementalSearch.shutdown();
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Types a keyword one letter at a time, so that every search after the first tests only the previous matches.
+     */
+    @Benchmark
+    public int typeKeyword() throws InterruptedException, ExecutionException {
+        int matchCount = 0;
+        for (String commandText : List.of("find w", "find we", "find wei")) {
+            matchCount += search(commandText);
+        }
+        return matchCount;
+    }
+
+    /**
+     * Searches for a keyword that does not extend the previous one, so that every person is tested.
+     */
+    @Benchmark
+    public int replaceKeyword() throws InterruptedException, ExecutionException {
+        isFirstKeyword = !isFirstKeyword;
+        return search(isFirstKeyword ? "find w" : "find a");
+    }
+
+    private int search(String commandText) throws InterruptedException, ExecutionException {
+        Optional<List<Person>> persons = incrementalSearch.search(commandText).get();
+        return persons.get().size();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Link;
+
+/**
+ * Measures how long {@link AddressBookParser#parseCommand(String)} takes for typical commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final String ADD_COMMAND = "add n/Amy Bee p/85355255 e/amy@example.com y/2 "
+            + "m/Computer Science h/Blk 30 Geylang Street 29 l/" + Link.TA_EXAMPLE + " t/friends t/colleagues";
+    private static final String EDIT_COMMAND = "edit 3 p/91234567 e/amybee@example.com t/friends";
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseAdd() throws ParseException {
+        return parser.parseCommand(ADD_COMMAND);
+    }
+
+    @Benchmark
+    public Command parseEdit() throws ParseException {
+        return parser.parseCommand(EDIT_COMMAND);
+    }
+
+    @Benchmark
+    public Command parseFind() throws ParseException {
+        return parser.parseCommand("find alex bernice charlotte");
+    }
+
+    @Benchmark
+    public Command parseFindMod() throws ParseException {
+        return parser.parseCommand("findMod CS2103T CS2101");
+    }
+
+    @Benchmark
+    public Command parseDelete() throws ParseException {
+        return parser.parseCommand("delete 42");
+    }
+}
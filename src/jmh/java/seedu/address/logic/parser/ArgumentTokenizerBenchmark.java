@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOUSING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAJOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Link;
+
+/**
+ * Measures how long {@link ArgumentTokenizer#tokenize(String, Prefix...)} takes for the arguments of typical
+ * commands, and how long tokenizing takes with a {@link PrefixAutomaton} built beforehand, as parsers do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ALL_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_YEAR,
+        PREFIX_MAJOR, PREFIX_HOUSING, PREFIX_LINK, PREFIX_TAG};
+    private static final String ADD_ARGUMENTS = " n/Amy Bee p/85355255 e/amy@example.com y/2 "
+            + "m/Computer Science h/Blk 30 Geylang Street 29 l/" + Link.TA_EXAMPLE + " t/friends t/colleagues";
+    private static final String EDIT_ARGUMENTS = " 3 p/91234567 t/friends";
+    private static final PrefixAutomaton PREFIX_AUTOMATON = new PrefixAutomaton(ALL_PREFIXES);
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAllPrefixes() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, ALL_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAllPrefixesPrebuilt() {
+        return PREFIX_AUTOMATON.tokenize(ADD_ARGUMENTS);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeFewPrefixes() {
+        return ArgumentTokenizer.tokenize(EDIT_ARGUMENTS, ALL_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeNoPrefixes() {
+        return ArgumentTokenizer.tokenize(" alex bernice charlotte", ALL_PREFIXES);
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.mod.ModuleCode;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Housing;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Year;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how long validating the fields of a person takes, for typical values and for 10,000-character values
+ * crafted to be as slow as possible to reject. The time for the crafted values should grow only linearly with their
+ * length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValidationBenchmark {
+
+    private static final int LENGTH = 10_000;
+
+    /** Made the previous email regex try every way of splitting the last domain label. */
+    private static final String EMAIL_LONG_DOMAIN = "a@" + "a".repeat(LENGTH) + "!";
+    private static final String EMAIL_HYPHENATED_DOMAIN = "a@" + "a-".repeat(LENGTH / 2) + "!";
+    private static final String EMAIL_LONG_LOCAL_PART = "a.".repeat(LENGTH / 2) + "@";
+    private static final String NAME = "a ".repeat(LENGTH / 2) + "!";
+    private static final String PHONE = "9".repeat(LENGTH);
+    private static final String YEAR = "1".repeat(LENGTH);
+    private static final String MAJOR = "a".repeat(LENGTH) + "\n";
+    private static final String HOUSING = " " + "a".repeat(LENGTH);
+    private static final String TAG = "a".repeat(LENGTH) + "!";
+    private static final String MODULE_CODE = "CS" + "1".repeat(LENGTH);
+
+    @Benchmark
+    public boolean isValidEmailTypical() {
+        return Email.isValidEmail("e1234567@u.nus.edu");
+    }
+
+    @Benchmark
+    public boolean isValidEmailLongDomain() {
+        return Email.isValidEmail(EMAIL_LONG_DOMAIN);
+    }
+
+    @Benchmark
+    public boolean isValidEmailHyphenatedDomain() {
+        return Email.isValidEmail(EMAIL_HYPHENATED_DOMAIN);
+    }
+
+    @Benchmark
+    public boolean isValidEmailLongLocalPart() {
+        return Email.isValidEmail(EMAIL_LONG_LOCAL_PART);
+    }
+
+    @Benchmark
+    public boolean isValidNameTypical() {
+        return Name.isValidName("Wei Ming Tan");
+    }
+
+    @Benchmark
+    public boolean isValidNameLong() {
+        return Name.isValidName(NAME);
+    }
+
+    @Benchmark
+    public boolean isValidPhoneLong() {
+        return Phone.isValidPhone(PHONE);
+    }
+
+    @Benchmark
+    public boolean isValidYearLong() {
+        return Year.isValidYear(YEAR);
+    }
+
+    @Benchmark
+    public boolean isValidMajorLong() {
+        return Major.isValidMajor(MAJOR);
+    }
+
+    @Benchmark
+    public boolean isValidHousingLong() {
+        return Housing.isValidHousing(HOUSING);
+    }
+
+    @Benchmark
+    public boolean isValidTagNameLong() {
+        return Tag.isValidTagName(TAG);
+    }
+
+    @Benchmark
+    public boolean isValidModuleCodeLong() {
+        return ModuleCode.isValidModuleCode(MODULE_CODE);
+    }
+}
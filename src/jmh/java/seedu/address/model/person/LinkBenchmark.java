@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long validating NUSMods links and extracting their module codes take.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkBenchmark {
+
+    private static final String SHORT_LINK = "https://nusmods.com/timetable/sem-1/share?CS1010=TUT:06,LAB:E07";
+    private static final String INVALID_LINK = "https://nusmods.com/timetable/sem-3/share?CS1010=TUT:06";
+
+    @Benchmark
+    public boolean isValidLinkShort() {
+        return Link.isValidLink(SHORT_LINK);
+    }
+
+    @Benchmark
+    public boolean isValidLinkWithTa() {
+        return Link.isValidLink(Link.TA_EXAMPLE);
+    }
+
+    @Benchmark
+    public boolean isValidLinkInvalid() {
+        return Link.isValidLink(INVALID_LINK);
+    }
+
+    @Benchmark
+    public Set<String> extractCodes() {
+        return Link.extractCodes(Link.TA_EXAMPLE);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Measures how long filtering the whole person list with the {@code find} and {@code findMod} predicates takes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersonPredicateBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private List<Person> persons;
+    private final Predicate<Person> namePredicate = new NameContainsKeywordsPredicate(List.of("Alex", "Tan"));
+    private final Predicate<Person> rareNamePredicate = new NameContainsKeywordsPredicate(List.of("Nobody"));
+    private final Predicate<Person> modPredicate = new ModContainsKeywordsPredicate(List.of("CS2103T", "CS5330"));
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator(SEED).generate(size);
+    }
+
+    @Benchmark
+    public long filterByName() {
+        return count(namePredicate);
+    }
+
+    @Benchmark
+    public long filterByNameNoMatch() {
+        return count(rareNamePredicate);
+    }
+
+    @Benchmark
+    public long filterByMod() {
+        return count(modPredicate);
+    }
+
+    private long count(Predicate<Person> predicate) {
+        long matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Measures how long adding persons to, and looking them up in, a {@link UniquePersonList} of a given size take.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniquePersonListBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private UniquePersonList personList;
+    private Person presentPerson;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        PersonGenerator generator = new PersonGenerator(SEED);
+        personList = new UniquePersonList();
+        personList.addAll(generator.generate(size));
+        presentPerson = personList.asUnmodifiableObservableList().get(size / 2);
+        absentPerson = generator.next();
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return personList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return personList.contains(absentPerson);
+    }
+
+    /**
+     * Adds a person to the end of the list, then removes it so that the list keeps its size.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        personList.add(absentPerson);
+        personList.remove(absentPerson);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Measures how long reading and writing an address book of a given size as JSON take, and how much each
+ * {@code FsyncPolicy} adds to writing. The files are kept in the default temporary directory, which should be on the
+ * storage device being measured.
+ * Each run is timed once, as runs with a million persons take seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JsonAddressBookStorageBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path directory;
+    private JsonAddressBookStorage readStorage;
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jmh-storage");
+        addressBook = new AddressBook();
+        addressBook.setPersons(new PersonGenerator(SEED).generate(size));
+        readStorage = new JsonAddressBookStorage(directory.resolve("read.json"));
+        readStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("read.json"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return readStorage.readAddressBook();
+    }
+
+    /**
+     * Saves the address book, forcing it to disk only with {@code FsyncPolicy.ALWAYS}.
+     */
+    @Benchmark
+    public void write(WriteStorage writeStorage) throws IOException {
+        writeStorage.storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves the address book, then forces it to disk as the app does when it exits, which does nothing with
+     * {@code FsyncPolicy.NEVER}.
+     */
+    @Benchmark
+    public void writeThenSyncOnExit(WriteStorage writeStorage) throws IOException {
+        writeStorage.storage.saveAddressBook(addressBook);
+        writeStorage.storage.syncAddressBook();
+    }
+
+    /**
+     * A file to write the address book to with each fsync policy. Kept apart from the benchmark's own state, so that
+     * {@link #read()} is not run once for each policy.
+     */
+    @State(Scope.Benchmark)
+    public static class WriteStorage {
+        @Param({"ALWAYS", "ON_EXIT", "NEVER"})
+        public FsyncPolicy fsyncPolicy;
+
+        private Path directory;
+        private JsonAddressBookStorage storage;
+
+        @Setup
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("jmh-storage-write");
+            storage = new JsonAddressBookStorage(directory.resolve("write.json"), fsyncPolicy);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(directory.resolve("write.json"));
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AddressBookWriter;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The parts of the application that do not need JavaFX: config, storage, model and logic.
+ * {@link MainApp} shows a GUI on top of them, and {@link HeadlessApp} reads commands from the terminal.
+ */
+public class AppCore {
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    protected Logic logic;
+    protected Storage storage;
+    protected AddressBookWriter addressBookWriter;
+    protected Model model;
+    protected Config config;
+    protected ScheduledExecutorService metricsWriter;
+
+    /**
+     * Reads the config, preferences and address book chosen by {@code appParameters}, and wires up the logic.
+     */
+    public void init(AppParameters appParameters) {
+        config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs, config);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        model = initModelManager(storage, userPrefs);
+
+        addressBookWriter = new AddressBookWriter(storage, config.getMaxSaveDelayMillis());
+        logic = new LogicManager(model, addressBookWriter);
+
+        if (config.getMetricsFilePath() != null) {
+            startMetricsWriter(config.getMetricsFilePath(), config.getMetricsIntervalSeconds());
+        }
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs, Config config) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage = userPrefs.getAddressBookFormat() == StorageFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath, config.getFsyncPolicy())
+                : new JsonAddressBookStorage(filePath, config.getFsyncPolicy());
+        if (userPrefs.isAddressBookJournalEnabled()) {
+            addressBookStorage = new JournalAddressBookStorage(addressBookStorage, config.getFsyncPolicy());
+        }
+        return addressBookStorage;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+                saveSampleAddressBook(storage, initialData);
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs, config.getMaxUndoHistoryBytes());
+    }
+
+    /**
+     * Saves the sample {@code addressBook} to {@code storage}, as it is only saved again once it changes.
+     */
+    private void saveSampleAddressBook(Storage storage, ReadOnlyAddressBook addressBook) {
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save sample data file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Runs the script at {@code scriptPath}, printing the result to the console.
+     *
+     * @return true if every command in the script succeeded.
+     */
+    public boolean runScript(Path scriptPath) {
+        logger.info("Running script " + scriptPath);
+        try {
+            CommandResult commandResult = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            System.out.println(commandResult.getFeedbackToUser());
+            return true;
+        } catch (CommandException | ParseException e) {
+            logger.warning("Script " + scriptPath + " failed: " + e.getMessage());
+            System.err.println(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes the command latencies to {@code metricsFilePath} every {@code intervalSeconds} seconds in the
+     * background.
+     */
+    private void startMetricsWriter(Path metricsFilePath, long intervalSeconds) {
+        logger.info("Writing command latencies to " + metricsFilePath + " every " + intervalSeconds + " s");
+        metricsWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MetricsWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodSeconds = Math.max(intervalSeconds, 1);
+        metricsWriter.scheduleAtFixedRate(() -> saveMetrics(metricsFilePath), periodSeconds, periodSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    private void saveMetrics(Path metricsFilePath) {
+        try {
+            logic.getCommandMetrics().saveReport(metricsFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save command latencies : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves any pending changes to the address book, forces it to disk and saves the preferences.
+     * Also writes the command latencies a last time, if they are written to a file.
+     */
+    public void stop() {
+        try {
+            addressBookWriter.close();
+            storage.syncAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        if (metricsWriter != null) {
+            metricsWriter.shutdownNow();
+            saveMetrics(config.getMetricsFilePath());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +18,11 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
+    private Path scriptPath;
+    private Integer serverPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +32,61 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the script to run in the terminal instead of starting the GUI, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the port to serve the address book over HTTP on, or null if it should not be served.
+     */
+    public Integer getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(Integer serverPort) {
+        this.serverPort = serverPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the command-line arguments {@code args} without starting JavaFX.
+     * Named parameters take the same {@code --name=value} form as in {@link Application.Parameters#getNamed()}, and
+     * other arguments are ignored.
+     */
+    public static AppParameters parse(String[] args) {
+        return parse(getNamedParameters(args));
+    }
+
+    /**
+     * Returns the values of the named parameters in the command-line arguments {@code args}, keyed by name.
+     * Named parameters take the form {@code --name=value}, and other arguments are ignored.
+     */
+    public static Map<String, String> getNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +95,32 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Starting the GUI instead.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String serverPortParameter = namedParameters.get("port");
+        if (serverPortParameter != null && !isValidPort(serverPortParameter)) {
+            logger.warning("Invalid port " + serverPortParameter + ". Not serving the address book over HTTP.");
+            serverPortParameter = null;
+        }
+        appParameters.setServerPort(serverPortParameter != null ? Integer.valueOf(serverPortParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        try {
+            int portNumber = Integer.parseInt(port);
+            return portNumber >= 0 && portNumber <= MAX_PORT;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +133,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(serverPort, otherAppParameters.serverPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, serverPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("serverPort", serverPort)
                 .toString();
     }
 }
@@ -0,0 +1,86 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.PersonGenerator;
+import seedu.address.storage.AddressBookFileConverter;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Generates an address book of realistic persons for testing the app at scale, without starting the app.
+ * For example, {@code --generate=1000000 --seed=42 --output=data/large.json} writes a million persons to
+ * {@code data/large.json}. The persons are written as they are generated, so any number of them can be generated.
+ */
+public class GeneratorApp {
+
+    /** Prefix of the command-line argument that makes {@link Main} start this instead of the GUI. */
+    public static final String GENERATE_PARAMETER_PREFIX = "--generate=";
+
+    public static final String MESSAGE_USAGE = "Usage: --generate=COUNT [--seed=SEED] [--output=FILE]\n"
+            + "FILE must end with .json, and defaults to the default data file.";
+
+    private static final long DEFAULT_SEED = 0;
+
+    /**
+     * Generates the address book described by the named parameters in {@code args}.
+     * Exits with status 1 if the parameters are invalid or the address book could not be written.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = AppParameters.getNamedParameters(args);
+        long count;
+        long seed;
+        try {
+            count = Long.parseLong(namedParameters.get("generate"));
+            seed = namedParameters.containsKey("seed") ? Long.parseLong(namedParameters.get("seed")) : DEFAULT_SEED;
+        } catch (NumberFormatException e) {
+            exitWithError(MESSAGE_USAGE);
+            return;
+        }
+        String outputParameter = namedParameters.get("output");
+        Path outputPath = outputParameter != null ? Paths.get(outputParameter)
+                : new UserPrefs().getAddressBookFilePath();
+        if (count < 0 || (outputParameter != null && !FileUtil.isValidPath(outputParameter))
+                || AddressBookFileConverter.getFormatOf(outputPath) != StorageFormat.JSON) {
+            exitWithError(MESSAGE_USAGE);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            generate(count, seed, outputPath);
+        } catch (IOException ioe) {
+            exitWithError("Could not write " + outputPath + ": " + StringUtil.getDetails(ioe));
+            return;
+        }
+        System.out.println("Generated " + count + " persons in " + outputPath + " in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+    }
+
+    /**
+     * Writes {@code count} persons generated with {@code seed} to {@code outputPath}, which must not exist yet so
+     * that existing data is never overwritten.
+     *
+     * @throws IOException if {@code outputPath} exists or could not be written.
+     */
+    public static void generate(long count, long seed, Path outputPath) throws IOException {
+        if (Files.exists(outputPath)) {
+            throw new FileAlreadyExistsException(outputPath.toString());
+        }
+        new JsonAddressBookStorage(outputPath).savePersons(new PersonGenerator(seed).iterator(count), outputPath);
+    }
+
+    private static void exitWithError(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+}
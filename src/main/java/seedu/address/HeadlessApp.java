@@ -0,0 +1,153 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.server.AddressBookServer;
+
+/**
+ * Runs the application in a terminal, without starting JavaFX, so that it also runs where there is no display.
+ * Commands are read from standard input, one per line, or from the script given with {@code --script=FILE}, and their
+ * results are written to standard output.
+ */
+public class HeadlessApp {
+
+    /** Command-line argument that makes {@link Main} start this instead of the GUI. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private static final String PROMPT = "> ";
+
+    /**
+     * Makes the JDK HTTP server send responses without waiting for the client to acknowledge the headers, which
+     * otherwise delays each response on a kept-alive connection by the client's delayed acknowledgement, about 40 ms.
+     */
+    private static final String HTTP_SERVER_NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final Logic logic;
+    private final BufferedReader input;
+    private final PrintStream output;
+    private final boolean isPromptShown;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs the commands read from {@code input} on {@code logic}, writing their
+     * results to {@code output}, and a prompt before each command if {@code isPromptShown}.
+     */
+    public HeadlessApp(Logic logic, BufferedReader input, PrintStream output, boolean isPromptShown) {
+        this.logic = logic;
+        this.input = input;
+        this.output = output;
+        this.isPromptShown = isPromptShown;
+    }
+
+    /**
+     * Starts the application in the terminal. Exits with status 1 if any command failed.
+     */
+    public static void main(String[] args) {
+        long startNanos = System.nanoTime();
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        AppParameters appParameters = AppParameters.parse(args);
+        AppCore core = new AppCore();
+        core.init(appParameters);
+        logger.info("Started AddressBook without a GUI in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+
+        if (appParameters.getServerPort() != null) {
+            // Set before any HTTP server is created, as the JDK reads it once. A value given with -D is kept.
+            if (System.getProperty(HTTP_SERVER_NODELAY_PROPERTY) == null) {
+                System.setProperty(HTTP_SERVER_NODELAY_PROPERTY, "true");
+            }
+            serve(core, appParameters.getServerPort());
+            return;
+        }
+
+        boolean isSuccessful;
+        if (appParameters.getScriptPath() != null) {
+            isSuccessful = core.runScript(appParameters.getScriptPath());
+        } else {
+            BufferedReader input = new BufferedReader(new InputStreamReader(System.in, Charset.defaultCharset()));
+            isSuccessful = new HeadlessApp(core.getLogic(), input, System.out, System.console() != null).run();
+        }
+
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        core.stop();
+        System.exit(isSuccessful ? 0 : 1);
+    }
+
+    /**
+     * Serves the address book in {@code core} over HTTP on {@code port} until the application is stopped, such as
+     * with Ctrl+C.
+     */
+    private static void serve(AppCore core, int port) {
+        AddressBookServer server;
+        try {
+            server = new AddressBookServer(core.getModel(), core.getLogic(), port,
+                    Runtime.getRuntime().availableProcessors());
+        } catch (IOException ioe) {
+            logger.severe("Could not serve the address book on port " + port + ": " + StringUtil.getDetails(ioe));
+            core.stop();
+            System.exit(1);
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("============================ [ Stopping AddressBook ] =============================");
+            server.stop();
+            core.stop();
+        }));
+        server.start();
+        System.out.println("Serving the address book on port " + server.getPort() + ". Press Ctrl+C to stop.");
+    }
+
+    /**
+     * Runs commands until the input ends or a command asks to exit.
+     *
+     * @return true if every command succeeded.
+     */
+    public boolean run() {
+        boolean isSuccessful = true;
+        while (true) {
+            if (isPromptShown) {
+                output.print(PROMPT);
+                output.flush();
+            }
+
+            String commandText;
+            try {
+                commandText = input.readLine();
+            } catch (IOException ioe) {
+                logger.warning("Could not read command: " + StringUtil.getDetails(ioe));
+                return false;
+            }
+            if (commandText == null) {
+                return isSuccessful;
+            }
+            if (commandText.trim().isEmpty()) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                output.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    return isSuccessful;
+                }
+            } catch (CommandException | ParseException e) {
+                output.println(e.getMessage());
+                isSuccessful = false;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +21,24 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --headless} or {@code --script=FILE}, the application runs in
+ * the terminal through {@link HeadlessApp} instead, and JavaFX is never
+ * started, so that a failed script makes the process exit with status 1.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (Arrays.stream(args).anyMatch(arg -> arg.startsWith(GeneratorApp.GENERATE_PARAMETER_PREFIX))) {
+            GeneratorApp.main(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_FLAG)
+                || AppParameters.parse(args).getScriptPath() != null) {
+            HeadlessApp.main(args);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -17,6 +17,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long maxSaveDelayMillis = 1000;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private long maxUndoHistoryBytes = 16 * 1024 * 1024;
+    private Path metricsFilePath = null;
+    private long metricsIntervalSeconds = 60;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,63 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the longest time, in milliseconds, that a change to the address book may go unsaved.
+     * Changes made within this time of each other are saved together. Zero saves after every change.
+     */
+    public long getMaxSaveDelayMillis() {
+        return maxSaveDelayMillis;
+    }
+
+    public void setMaxSaveDelayMillis(long maxSaveDelayMillis) {
+        this.maxSaveDelayMillis = maxSaveDelayMillis;
+    }
+
+    /**
+     * Returns when saves of the address book are forced onto the storage device.
+     */
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Returns roughly how many bytes of memory the changes kept for undo may take. Older changes are forgotten once
+     * this is exceeded, though the latest change can always be undone.
+     */
+    public long getMaxUndoHistoryBytes() {
+        return maxUndoHistoryBytes;
+    }
+
+    public void setMaxUndoHistoryBytes(long maxUndoHistoryBytes) {
+        this.maxUndoHistoryBytes = maxUndoHistoryBytes;
+    }
+
+    /**
+     * Returns the file that command latencies are periodically written to, or null if they are not written.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns how often, in seconds, command latencies are written to the metrics file.
+     */
+    public long getMetricsIntervalSeconds() {
+        return metricsIntervalSeconds;
+    }
+
+    public void setMetricsIntervalSeconds(long metricsIntervalSeconds) {
+        this.metricsIntervalSeconds = metricsIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +109,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && maxSaveDelayMillis == otherConfig.maxSaveDelayMillis
+                && fsyncPolicy == otherConfig.fsyncPolicy
+                && maxUndoHistoryBytes == otherConfig.maxUndoHistoryBytes
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && metricsIntervalSeconds == otherConfig.metricsIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, maxSaveDelayMillis, fsyncPolicy, maxUndoHistoryBytes,
+                metricsFilePath, metricsIntervalSeconds);
     }
 
     @Override
@@ -60,6 +128,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("maxSaveDelayMillis", maxSaveDelayMillis)
+                .add("fsyncPolicy", fsyncPolicy)
+                .add("maxUndoHistoryBytes", maxUndoHistoryBytes)
+                .add("metricsFilePath", metricsFilePath)
+                .add("metricsIntervalSeconds", metricsIntervalSeconds)
                 .toString();
     }
 
@@ -0,0 +1,14 @@
+package seedu.address.commons.core;
+
+/**
+ * Represents when saved data is forced onto the storage device, so that it survives a power loss or an operating
+ * system crash. Saves are atomic regardless of the policy, so a crashed save never leaves a partly written file.
+ */
+public enum FsyncPolicy {
+    /** Every save is forced to disk before it completes. */
+    ALWAYS,
+    /** Saved data is forced to disk when the app exits. */
+    ON_EXIT,
+    /** Saved data is left to the operating system to write to disk. */
+    NEVER
+}
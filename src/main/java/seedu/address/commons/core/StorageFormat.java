@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * Represents the format in which the address book is stored in its data file.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** Compact binary, which is smaller and faster to read and write than JSON. */
+    BINARY
+}
@@ -1,10 +1,20 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +22,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to a stream, so that the content need not be held in memory all at once.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which must not be closed.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +97,122 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, String, boolean)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, false);
+    }
+
+    /**
+     * Writes given string to a file atomically, so that the file holds either its old or its new content even if
+     * the app crashes midway. The content is written to a temporary file in the same directory, which then replaces
+     * the file. Will create the file if it does not exist yet, and keeps the permissions of the file if it does.
+     *
+     * @param isForced whether the content is forced onto the storage device before the file is replaced.
+     */
+    public static void writeToFile(Path file, String content, boolean isForced) throws IOException {
+        writeToFile(file, content.getBytes(CHARSET), isForced);
+    }
+
+    /**
+     * Writes given bytes to a file atomically.
+     *
+     * @see #writeToFile(Path, String, boolean)
+     */
+    public static void writeToFile(Path file, byte[] content, boolean isForced) throws IOException {
+        writeToFile(file, out -> out.write(content), isForced);
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file atomically, streaming it to the temporary file
+     * as it is written.
+     *
+     * @see #writeToFile(Path, String, boolean)
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, boolean isForced) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFile(directory, file.getFileName().toString());
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            // Only after writing, as the file may be read-only.
+            copyPermissions(file, tempFile);
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        if (isForced) {
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * Forces the content of {@code file}, if it exists, onto the storage device.
+     */
+    public static void forceToDisk(Path file) throws IOException {
+        if (!isFileExists(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Creates an empty temporary file in {@code directory} for writing the file named {@code fileName}.
+     * Unlike {@link Files#createTempFile}, which makes the file readable only by its owner, the file is created with
+     * the default permissions, as when a file is written in place.
+     */
+    private static Path createTempFile(Path directory, String fileName) throws IOException {
+        while (true) {
+            Path tempFile = directory.resolve(fileName + "." + Long.toUnsignedString(
+                    ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // Try another name.
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions of {@code source}, if {@code source} exists and the file system has POSIX
+     * permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (Files.getFileAttributeView(source, PosixFileAttributeView.class) == null || !Files.exists(source)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file that was just renamed into it, onto the storage
+     * device. Not every platform allows this, in which case the directory is left to the operating system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, such as Windows.
+        }
     }
 
 }
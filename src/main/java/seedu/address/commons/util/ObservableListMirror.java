@@ -0,0 +1,140 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps a copy of an {@code ObservableList} that is only changed by tasks run on a given {@code Executor}, so that
+ * the copy can be shown on the JavaFX application thread while the original is changed on another thread.
+ *
+ * Every change to the original is recorded as the range it replaced and a copy of the elements it added, and the
+ * copy replays the changes in order. So a change of a few elements costs little on either thread, however long the
+ * list, and a list view of the copy only updates the cells of the changed elements. Changes made before the previous
+ * ones were replayed are replayed together. If too many pile up, they are replaced by the contents of the original.
+ */
+public class ObservableListMirror<T> {
+
+    /** Most changes waiting to be replayed before they are replaced by the contents of the original. */
+    static final int MAX_PENDING_EDITS = 64;
+
+    private final ObservableList<T> source;
+    private final Executor executor;
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+
+    // Guarded by this: the changes to the original that have not yet been replayed on the copy, in order, after
+    // replacing the contents of the copy with pendingContents if it is not null.
+    private List<T> pendingContents;
+    private List<Edit<T>> pendingEdits = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code source}, which follows it through tasks run on {@code executor}.
+     * {@code source} must not change while this is being created.
+     */
+    public ObservableListMirror(ObservableList<T> source, Executor executor) {
+        requireNonNull(source);
+        requireNonNull(executor);
+        this.source = source;
+        this.executor = executor;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener((ListChangeListener<T>) this::submitChange);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    private void submitChange(ListChangeListener.Change<? extends T> change) {
+        List<Edit<T>> edits = new ArrayList<>();
+        boolean isPermutated = false;
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                // Later parts of the change may have moved the permutated elements, so copy the whole original.
+                isPermutated = true;
+            } else if (change.wasUpdated()) {
+                // Updates come after the other parts of the change, so the original holds the updated elements.
+                int to = change.getTo();
+                edits.add(new Edit<>(from, to - from, new ArrayList<>(source.subList(from, to))));
+            } else {
+                edits.add(new Edit<>(from, change.getRemovedSize(), new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+        if (edits.isEmpty() && !isPermutated) {
+            return;
+        }
+
+        boolean isFirstPending;
+        synchronized (this) {
+            isFirstPending = pendingContents == null && pendingEdits.isEmpty();
+            if (isPermutated || pendingEdits.size() + edits.size() > MAX_PENDING_EDITS) {
+                pendingContents = new ArrayList<>(source);
+                pendingEdits = new ArrayList<>();
+            } else {
+                pendingEdits.addAll(edits);
+            }
+        }
+        if (isFirstPending) {
+            executor.execute(this::replayPendingChanges);
+        }
+    }
+
+    private void replayPendingChanges() {
+        List<T> contents;
+        List<Edit<T>> edits;
+        synchronized (this) {
+            contents = pendingContents;
+            edits = pendingEdits;
+            pendingContents = null;
+            pendingEdits = new ArrayList<>();
+        }
+
+        if (contents != null) {
+            mirror.setAll(contents);
+        }
+        for (Edit<T> edit : edits) {
+            edit.applyTo(mirror);
+        }
+    }
+
+    /**
+     * A change that replaces {@code removedSize} elements from {@code from} with {@code added}.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        Edit(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(ObservableList<T> list) {
+            if (from == 0 && removedSize == list.size()) {
+                list.setAll(added);
+            } else if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+            } else {
+                if (removedSize > 0) {
+                    list.remove(from, from + removedSize);
+                }
+                if (!added.isEmpty()) {
+                    list.addAll(from, added);
+                }
+            }
+        }
+    }
+}
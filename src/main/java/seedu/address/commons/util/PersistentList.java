@@ -0,0 +1,252 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.checkIndex;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that is changed by making a new list, which shares all but O(log n) of its structure with the
+ * old one. Getting, replacing, inserting and removing an element at any index each take O(log n) time, so a new
+ * version can be made after every change to a large list without copying it.
+ *
+ * The elements are kept in a balanced binary tree ordered by index, in which every node records the size of its
+ * subtree.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order, in O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> of(Collection<? extends T> elements) {
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build((T[]) array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> with(int index, T element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} added at the end.
+     */
+    public PersistentList<T> plus(T element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, moving the elements from {@code index} onwards
+     * back by one.
+     */
+    public PersistentList<T> plus(int index, T element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the elements of {@code elements} added at the end, in iteration order.
+     */
+    public PersistentList<T> plusAll(Collection<? extends T> elements) {
+        Node<T> newRoot = root;
+        for (T element : elements) {
+            newRoot = insert(newRoot, sizeOf(newRoot), element);
+        }
+        return new PersistentList<>(newRoot);
+    }
+
+    /**
+     * Returns a list without the element at {@code index}, moving the elements after it forward by one.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Iterates over the elements in O(n) time in all, instead of looking up each index.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /** Nodes whose value and right subtree are still to be visited, the next one on top. */
+            private final Deque<Node<T>> pending = new ArrayDeque<>();
+
+            {
+                pushLeftEdge(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = pending.pop();
+                pushLeftEdge(node.right);
+                return node.value;
+            }
+
+            private void pushLeftEdge(Node<T> node) {
+                for (; node != null; node = node.left) {
+                    pending.push(node);
+                }
+            }
+        };
+    }
+
+    //=========== Tree operations ============================================================================
+
+    /**
+     * A node of the tree, holding one element. Nodes are never changed, so they can be shared between lists.
+     */
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            size = sizeOf(left) + 1 + sizeOf(right);
+            height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> Node<T> build(T[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements[middle], build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<T> first = node.right;
+            while (first.left != null) {
+                first = first.left;
+            }
+            return balance(node.left, first.value, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node with {@code left}, {@code value} and {@code right}, rotated so that the heights of its subtrees
+     * differ by at most one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<T> middle = left.right;
+            return new Node<>(new Node<>(left.left, left.value, middle.left), middle.value,
+                    new Node<>(middle.right, value, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<T> middle = right.left;
+            return new Node<>(new Node<>(left, value, middle.left), middle.value,
+                    new Node<>(middle.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+}
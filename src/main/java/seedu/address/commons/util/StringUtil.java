@@ -38,6 +38,20 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with every character mapped to a canonical case, such that
+     * {@code a.equalsIgnoreCase(b)} exactly when {@code foldCase(a).equals(foldCase(b))}.
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
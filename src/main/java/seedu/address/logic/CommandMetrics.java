@@ -0,0 +1,236 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.LatencyHistogram;
+import seedu.address.logic.commands.Command;
+
+/**
+ * Latencies of the commands run through a {@code LogicManager}, kept for each kind of command and each
+ * {@link Phase} of running it. Also keeps the latencies of every save of the address book, including those made in
+ * the background after the command that caused them has returned.
+ *
+ * Recording a latency does not allocate, once a command of the same kind has been recorded before.
+ */
+public class CommandMetrics {
+
+    /** The timed phases of running a command. */
+    public enum Phase {
+        /** Parsing the command text into a command. */
+        PARSE,
+        /** Executing the command on the model. */
+        EXECUTE,
+        /** Saving the address book, or handing it to the background writer, after the command changed it. */
+        SAVE
+    }
+
+    /** Name under which the latencies of command texts that could not be parsed are kept. */
+    public static final String INVALID_COMMAND_NAME = "(invalid)";
+
+    public static final String MESSAGE_REPORT_HEADER = "%1$d commands in %2$.0f s (%3$.2f commands/s). "
+            + "Latencies in ms:";
+    public static final String MESSAGE_REPORT_PHASE = "%1$s p50 %2$.2f, p99 %3$.2f, max %4$.2f";
+    public static final String MESSAGE_REPORT_SAVES = "all saves (%1$d): ";
+
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99};
+
+    private final ConcurrentMap<Class<? extends Command>, CommandStats> statsByCommandClass =
+            new ConcurrentHashMap<>();
+    private final CommandStats invalidCommandStats = new CommandStats(INVALID_COMMAND_NAME);
+    private final LatencyHistogram saveLatency;
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Creates metrics that report {@code saveLatency} as the latencies of all saves of the address book.
+     */
+    public CommandMetrics(LatencyHistogram saveLatency) {
+        this.saveLatency = requireNonNull(saveLatency);
+    }
+
+    /**
+     * Returns the latencies of commands of class {@code commandClass}.
+     */
+    public CommandStats getStats(Class<? extends Command> commandClass) {
+        CommandStats stats = statsByCommandClass.get(commandClass);
+        if (stats == null) {
+            stats = statsByCommandClass.computeIfAbsent(commandClass,
+                    unused -> new CommandStats(getCommandName(commandClass)));
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the latencies of parsing command texts that could not be parsed.
+     */
+    public CommandStats getInvalidCommandStats() {
+        return invalidCommandStats;
+    }
+
+    public LatencyHistogram getSaveLatency() {
+        return saveLatency;
+    }
+
+    /**
+     * Returns the latencies of every kind of command run so far, ordered by name, followed by those of commands that
+     * could not be parsed if there were any.
+     */
+    public List<CommandStats> getAllStats() {
+        List<CommandStats> allStats = new ArrayList<>(statsByCommandClass.values());
+        allStats.sort(Comparator.comparing(CommandStats::getName));
+        if (invalidCommandStats.getCount() > 0) {
+            allStats.add(invalidCommandStats);
+        }
+        return allStats;
+    }
+
+    /**
+     * Returns the number of commands run so far, including those that could not be parsed.
+     */
+    public long getCommandCount() {
+        return getAllStats().stream().mapToLong(CommandStats::getCount).sum();
+    }
+
+    /**
+     * Returns a summary of the latencies, one line per kind of command.
+     */
+    public String formatReport() {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        long commandCount = getCommandCount();
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_REPORT_HEADER, commandCount, elapsedSeconds,
+                commandCount / Math.max(elapsedSeconds, 1e-9)));
+        for (CommandStats stats : getAllStats()) {
+            report.append('\n').append(stats.getName()).append(" (").append(stats.getCount()).append("): ");
+            List<String> phases = new ArrayList<>();
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram latency = stats.getLatency(phase);
+                if (latency.getCount() > 0) {
+                    phases.add(formatLatency(phase.name().toLowerCase(), latency));
+                }
+            }
+            report.append(String.join("; ", phases));
+        }
+        if (saveLatency.getCount() > 0) {
+            report.append('\n').append(String.format(MESSAGE_REPORT_SAVES, saveLatency.getCount()))
+                    .append(formatLatency("save", saveLatency));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the latencies to {@code filePath} as JSON.
+     */
+    public void saveReport(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        JsonUtil.saveJsonFile(new JsonReport(this), filePath);
+    }
+
+    /**
+     * Returns the name of commands of class {@code commandClass}, which is its command word.
+     * For example, the name of {@code FindModCommand} is {@code findMod}.
+     */
+    static String getCommandName(Class<? extends Command> commandClass) {
+        String name = commandClass.getSimpleName();
+        if (name.endsWith("Command") && name.length() > "Command".length()) {
+            name = name.substring(0, name.length() - "Command".length());
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String formatLatency(String label, LatencyHistogram latency) {
+        return String.format(MESSAGE_REPORT_PHASE, label, toMillis(latency.getValueAtPercentile(50)),
+                toMillis(latency.getValueAtPercentile(99)), toMillis(latency.getMaxNanos()));
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The latencies of one kind of command.
+     */
+    public static class CommandStats {
+        private final String name;
+        private final LatencyHistogram[] latencies = new LatencyHistogram[Phase.values().length];
+
+        CommandStats(String name) {
+            this.name = name;
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LatencyHistogram();
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of commands of this kind that were run, which is the number that were parsed.
+         */
+        public long getCount() {
+            return getLatency(Phase.PARSE).getCount();
+        }
+
+        public LatencyHistogram getLatency(Phase phase) {
+            return latencies[phase.ordinal()];
+        }
+
+        /**
+         * Records that {@code phase} of a command of this kind took {@code nanos} nanoseconds.
+         */
+        public void record(Phase phase, long nanos) {
+            latencies[phase.ordinal()].record(nanos);
+        }
+    }
+
+    /**
+     * The latencies as written to the metrics file.
+     */
+    private static class JsonReport {
+        private final double uptimeSeconds;
+        private final Map<String, Map<String, JsonLatency>> commands = new LinkedHashMap<>();
+        private final JsonLatency saves;
+
+        JsonReport(CommandMetrics metrics) {
+            uptimeSeconds = (System.nanoTime() - metrics.startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            for (CommandStats stats : metrics.getAllStats()) {
+                Map<String, JsonLatency> phases = new LinkedHashMap<>();
+                for (Phase phase : Phase.values()) {
+                    phases.put(phase.name().toLowerCase(), new JsonLatency(stats.getLatency(phase)));
+                }
+                commands.put(stats.getName(), phases);
+            }
+            saves = new JsonLatency(metrics.saveLatency);
+        }
+    }
+
+    /**
+     * The summary of one histogram as written to the metrics file.
+     */
+    private static class JsonLatency {
+        private final long count;
+        private final double meanMs;
+        private final Map<String, Double> percentilesMs = new LinkedHashMap<>();
+        private final double maxMs;
+
+        JsonLatency(LatencyHistogram latency) {
+            count = latency.getCount();
+            meanMs = toMillis(latency.getMeanNanos());
+            for (double percentile : REPORTED_PERCENTILES) {
+                percentilesMs.put("p" + (int) percentile, toMillis(latency.getValueAtPercentile(percentile)));
+            }
+            maxMs = toMillis(latency.getMaxNanos());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands through a {@code Logic} on a background thread, so that the thread submitting them, such as the
+ * JavaFX application thread, is not blocked while they are parsed, executed and saved.
+ *
+ * Commands are run one at a time, in the order they are submitted, and their results are completed in that order.
+ */
+public class CommandQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Logic logic;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a {@code CommandQueue} that runs commands through {@code logic}.
+     */
+    public CommandQueue(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CommandQueue");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code commandText} to run after every command submitted before it.
+     * The returned future is completed on the background thread with the result of the command, or exceptionally
+     * with the {@code CommandException} or {@code ParseException} it threw.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(logic.execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Stops accepting commands, and waits up to {@code timeoutMillis} milliseconds for the submitted commands to
+     * finish.
+     */
+    public void shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.warning("Commands still running after " + timeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindModCommand;
+import seedu.address.model.mod.ModuleCode;
+import seedu.address.model.person.Person;
+
+/**
+ * Searches the address book while the user is still typing a {@code find} or {@code findMod} command, so that the
+ * persons the command would find can be shown before it is entered.
+ *
+ * As with the commands, a search finds the persons with a name word, or a module code, equal to any of the keywords
+ * typed so far, ignoring case. Along the way, it also keeps the persons with a word that merely starts with a
+ * keyword. Typing more of a keyword only ever narrows those, so a search that only extends the keywords of the
+ * previous one tests just the persons that the previous one kept.
+ *
+ * Searches run one at a time on a background thread, after the text has stopped changing for a while. Starting a
+ * search cancels the one before it, whether it is still waiting or already running.
+ */
+public class IncrementalSearch {
+
+    /** How many persons a search tests between checks of whether it has been cancelled. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 4096;
+    /** Delay before indexing the address book after it changes, so that a burst of changes is indexed once. */
+    private static final long INDEX_UPDATE_DELAY_MILLIS = 500;
+
+    private final Logic logic;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor;
+    /** Incremented by every search, so that a running search can tell that a later one has started. */
+    private final AtomicLong latestSearchId = new AtomicLong();
+    /** True if the address book has changed since it was last indexed. */
+    private final AtomicBoolean isIndexOutdated = new AtomicBoolean(true);
+
+    private Future<?> pendingSearch;
+    private CompletableFuture<Optional<List<Person>>> pendingResult;
+
+    // Only used on the background thread: the index of the address book, and the latest search of it that finished
+    // with the indexes of the persons it found.
+    private SearchIndex index;
+    private Query previousQuery;
+    private int[] previousMatches;
+    private int previousMatchCount;
+    private int testedCount;
+
+    /**
+     * Creates an {@code IncrementalSearch} of the address book of {@code logic} that waits until the text has not
+     * changed for {@code debounceMillis} milliseconds before searching. The address book is indexed in the
+     * background at once, and again whenever it changes, so that searches need not wait for it.
+     * It must be created before any command that changes the address book runs.
+     */
+    public IncrementalSearch(Logic logic, long debounceMillis) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.debounceMillis = debounceMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "IncrementalSearch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logic.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                handleAddressBookChanged());
+        executor.execute(this::updateIndex);
+    }
+
+    /**
+     * Cancels the previous search, and searches for the persons that {@code commandText} would find if it is a valid
+     * {@code find} or {@code findMod} command.
+     * The returned future is completed on the background thread with the persons found in address book order, or
+     * with an empty {@code Optional} at once if {@code commandText} is not such a command. It is cancelled if another
+     * search starts before it is completed.
+     */
+    public CompletableFuture<Optional<List<Person>>> search(String commandText) {
+        requireNonNull(commandText);
+        long searchId = latestSearchId.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingResult.cancel(false);
+        }
+
+        Optional<Query> query = Query.parse(commandText);
+        if (query.isEmpty()) {
+            pendingSearch = null;
+            pendingResult = null;
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        CompletableFuture<Optional<List<Person>>> result = new CompletableFuture<>();
+        pendingResult = result;
+        pendingSearch = executor.schedule(() -> run(query.get(), searchId, result), debounceMillis,
+                TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    /**
+     * Stops searching. Searches that have not finished are abandoned.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the number of persons that the latest finished search tested, which are the persons kept by the
+     * previous search if it could refine that search, or every person otherwise.
+     */
+    int getTestedCount() {
+        return testedCount;
+    }
+
+    private void handleAddressBookChanged() {
+        if (!isIndexOutdated.getAndSet(true) && !executor.isShutdown()) {
+            executor.schedule(this::updateIndex, INDEX_UPDATE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Indexes the address book again if it has changed since it was last indexed.
+     */
+    private void updateIndex() {
+        // Clear the flag before taking the snapshot, so that a change after the snapshot marks the index outdated.
+        if (isIndexOutdated.getAndSet(false)) {
+            index = new SearchIndex(logic.getAddressBookSnapshot().getPersonList());
+            previousQuery = null;
+        }
+    }
+
+    private void run(Query query, long searchId, CompletableFuture<Optional<List<Person>>> result) {
+        // A search soon after a change may run before the index is updated.
+        updateIndex();
+        boolean canRefine = previousQuery != null && query.refines(previousQuery);
+        int candidateCount = canRefine ? previousMatchCount : index.size();
+
+        // Persons with a word starting with a keyword, kept for refining, and those with a word equal to a keyword.
+        int[] prefixMatches = new int[candidateCount];
+        int prefixMatchCount = 0;
+        int[] wordMatches = new int[candidateCount];
+        int wordMatchCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && latestSearchId.get() != searchId) {
+                result.cancel(false);
+                return;
+            }
+            int personIndex = canRefine ? previousMatches[i] : i;
+            int match = index.match(personIndex, query);
+            if (match != SearchIndex.NO_MATCH) {
+                prefixMatches[prefixMatchCount++] = personIndex;
+            }
+            if (match == SearchIndex.WORD_MATCH) {
+                wordMatches[wordMatchCount++] = personIndex;
+            }
+        }
+
+        previousQuery = query;
+        previousMatches = prefixMatches;
+        previousMatchCount = prefixMatchCount;
+        testedCount = candidateCount;
+        result.complete(Optional.of(index.getPersons(wordMatches, wordMatchCount)));
+    }
+
+    /**
+     * The keywords of a {@code find} or {@code findMod} command, with their case folded.
+     */
+    private static class Query {
+        private final boolean isFindMod;
+        private final char[][] keywords;
+
+        private Query(boolean isFindMod, char[][] keywords) {
+            this.isFindMod = isFindMod;
+            this.keywords = keywords;
+        }
+
+        /**
+         * Returns the query of {@code commandText}, or an empty {@code Optional} if it is not a {@code find} or
+         * {@code findMod} command with at least one keyword, or is a {@code findMod} command with a keyword that is
+         * not a valid module code, which the command rejects.
+         */
+        static Optional<Query> parse(String commandText) {
+            String[] words = commandText.trim().split("\\s+", 2);
+            boolean isFind = words[0].equals(FindCommand.COMMAND_WORD);
+            boolean isFindMod = words[0].equals(FindModCommand.COMMAND_WORD);
+            if (!(isFind || isFindMod) || words.length < 2) {
+                return Optional.empty();
+            }
+            String[] keywords = words[1].split("\\s+");
+            char[][] keywordChars = new char[keywords.length][];
+            for (int i = 0; i < keywords.length; i++) {
+                if (isFindMod && !ModuleCode.isValidModuleCode(keywords[i])) {
+                    return Optional.empty();
+                }
+                keywordChars[i] = StringUtil.foldCase(keywords[i]).toCharArray();
+            }
+            return Optional.of(new Query(isFindMod, keywordChars));
+        }
+
+        /**
+         * Returns true if every person with a word starting with a keyword of this query also has a word starting
+         * with a keyword of {@code other}, because each keyword of this query starts with the keyword of
+         * {@code other} in the same place.
+         */
+        boolean refines(Query other) {
+            if (isFindMod != other.isFindMod || keywords.length != other.keywords.length) {
+                return false;
+            }
+            for (int i = 0; i < keywords.length; i++) {
+                char[] keyword = keywords[i];
+                char[] otherKeyword = other.keywords[i];
+                if (keyword.length < otherKeyword.length
+                        || !Arrays.equals(keyword, 0, otherKeyword.length, otherKeyword, 0, otherKeyword.length)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The names and module codes of the persons in a snapshot of the address book, with their case folded and their
+     * words separated by single spaces. The text of all persons is laid out in one array, so that a search reads
+     * memory in order instead of following references from each person to its fields.
+     */
+    private static class SearchIndex {
+        static final int NO_MATCH = 0;
+        static final int PREFIX_MATCH = 1;
+        static final int WORD_MATCH = 2;
+
+        private static final char SEPARATOR = ' ';
+        /** The characters that the commands split words at, as matched by {@code \s} in a regex. */
+        private static final String WHITESPACE = " \t\n\u000B\f\r";
+
+        private final List<Person> persons;
+        private final char[] names;
+        private final int[] nameStarts;
+        private final char[] modules;
+        private final int[] moduleStarts;
+
+        SearchIndex(List<Person> snapshot) {
+            persons = new ArrayList<>(snapshot);
+            nameStarts = new int[persons.size() + 1];
+            moduleStarts = new int[persons.size() + 1];
+            StringBuilder nameText = new StringBuilder();
+            StringBuilder moduleText = new StringBuilder();
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                appendWords(nameText, person.getName().fullName);
+                for (ModuleCode module : person.getModules()) {
+                    appendWords(moduleText, module.value);
+                }
+                nameStarts[i + 1] = nameText.length();
+                moduleStarts[i + 1] = moduleText.length();
+            }
+            names = nameText.toString().toCharArray();
+            modules = moduleText.toString().toCharArray();
+        }
+
+        /**
+         * Appends each word of {@code words}, with its case folded, followed by a separator.
+         */
+        private static void appendWords(StringBuilder text, String words) {
+            String foldedWords = StringUtil.foldCase(words);
+            boolean isInWord = false;
+            for (int i = 0; i < foldedWords.length(); i++) {
+                char c = foldedWords.charAt(i);
+                boolean isWhitespace = WHITESPACE.indexOf(c) != -1;
+                if (isWhitespace && isInWord) {
+                    text.append(SEPARATOR);
+                } else if (!isWhitespace) {
+                    text.append(c);
+                }
+                isInWord = !isWhitespace;
+            }
+            if (isInWord) {
+                text.append(SEPARATOR);
+            }
+        }
+
+        int size() {
+            return persons.size();
+        }
+
+        /**
+         * Returns {@code WORD_MATCH} if a name word, or a word of a module code, of the person at
+         * {@code personIndex} equals a keyword of {@code query}, else {@code PREFIX_MATCH} if one starts with a
+         * keyword, else {@code NO_MATCH}.
+         */
+        int match(int personIndex, Query query) {
+            char[] text = query.isFindMod ? modules : names;
+            int[] starts = query.isFindMod ? moduleStarts : nameStarts;
+            int start = starts[personIndex];
+            int end = starts[personIndex + 1];
+            int match = NO_MATCH;
+            // Each word, including the last, is followed by a separator.
+            for (int wordStart = start; wordStart < end; wordStart = indexOfSeparator(text, wordStart) + 1) {
+                for (char[] keyword : query.keywords) {
+                    int keywordEnd = wordStart + keyword.length;
+                    if (text[wordStart] == keyword[0] && keywordEnd < end
+                            && Arrays.equals(text, wordStart, keywordEnd, keyword, 0, keyword.length)) {
+                        if (text[keywordEnd] == SEPARATOR) {
+                            return WORD_MATCH;
+                        }
+                        match = PREFIX_MATCH;
+                    }
+                }
+            }
+            return match;
+        }
+
+        private static int indexOfSeparator(char[] text, int from) {
+            int i = from;
+            while (text[i] != SEPARATOR) {
+                i++;
+            }
+            return i;
+        }
+
+        /**
+         * Returns the persons at the first {@code count} of {@code personIndexes}.
+         */
+        List<Person> getPersons(int[] personIndexes, int count) {
+            return new AbstractList<>() {
+                @Override
+                public Person get(int index) {
+                    Objects.checkIndex(index, count);
+                    return persons.get(personIndexes[index]);
+                }
+
+                @Override
+                public int size() {
+                    return count;
+                }
+            };
+        }
+    }
+}
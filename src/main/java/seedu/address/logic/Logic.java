@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the latencies of the commands executed so far.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Sets the handler of errors from saving the address book after {@link #execute(String)} has returned.
+     * The handler is given a message for the user, and may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -30,9 +43,24 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook as of its last change, which may be read from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable copy of the filtered list of persons that is only changed by tasks run on
+     * {@code executor}.
+     *
+     * @see seedu.address.model.Model#getFilteredPersonList(Executor)
+     */
+    ObservableList<Person> getFilteredPersonList(Executor executor);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -3,11 +3,16 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandMetrics.CommandStats;
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,6 +21,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookWriter;
 import seedu.address.storage.Storage;
 
 /**
@@ -30,47 +36,122 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookWriter addressBookWriter;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics metrics;
+
+    /** True if the address book has changed since it was last submitted to {@code addressBookWriter}. */
+    private boolean isAddressBookChanged = false;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved after every command that changes it.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new AddressBookWriter(storage, 0));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the address book through
+     * {@code addressBookWriter} after every command that changes it.
+     */
+    public LogicManager(Model model, AddressBookWriter addressBookWriter) {
         this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.addressBookWriter = addressBookWriter;
+        metrics = new CommandMetrics(addressBookWriter.getSaveLatency());
+        addressBookParser = new AddressBookParser(metrics);
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                isAddressBookChanged = true);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        long parseStartNanos = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            metrics.getInvalidCommandStats().record(Phase.PARSE, System.nanoTime() - parseStartNanos);
+            throw pe;
+        }
+        CommandStats stats = metrics.getStats(command.getClass());
+        long executeStartNanos = System.nanoTime();
+        stats.record(Phase.PARSE, executeStartNanos - parseStartNanos);
+
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        ReadOnlyAddressBook changedAddressBook = null;
+        // Other threads must not see the model halfway through a command, nor change it between the command's steps.
+        model.getLock().writeLock().lock();
+        try {
+            commandResult = command.execute(model);
+            if (isAddressBookChanged) {
+                isAddressBookChanged = false;
+                changedAddressBook = model.getAddressBookSnapshot();
+            }
+        } finally {
+            model.getLock().writeLock().unlock();
+            stats.record(Phase.EXECUTE, System.nanoTime() - executeStartNanos);
+        }
 
+        if (changedAddressBook == null && !commandResult.isExit()) {
+            return commandResult;
+        }
+        long saveStartNanos = System.nanoTime();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            if (changedAddressBook != null) {
+                addressBookWriter.submit(changedAddressBook);
+            }
+            if (commandResult.isExit()) {
+                addressBookWriter.flush();
+            }
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        } finally {
+            stats.record(Phase.SAVE, System.nanoTime() - saveStartNanos);
         }
 
         return commandResult;
     }
 
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        addressBookWriter.setErrorHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableList<Person> getFilteredPersonList(Executor executor) {
+        return model.getFilteredPersonList(executor);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -26,10 +26,17 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Returns the predicate of the persons this command lists.
+     */
+    public NameContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByName(predicate);
 
         String resultMessage;
         if (model.getFilteredPersonList().size() == 1) {
@@ -38,12 +38,19 @@ public class FindModCommand extends Command {
         logger.info("FindModCommand created with predicate: " + predicate);
     }
 
+    /**
+     * Returns the predicate of the persons this command lists.
+     */
+    public ModContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         logger.info("Executing FindModCommand with predicate: " + predicate);
 
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByModules(predicate);
         String resultMessage;
 
         if (model.getFilteredPersonList().size() == 1) {
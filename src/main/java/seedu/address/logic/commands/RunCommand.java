@@ -0,0 +1,137 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command.
+ * Either every command in the script takes effect, or none does.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped. "
+            + "If any command fails, none of the commands take effect. "
+            + "Indexes in the file refer to the full list of persons, numbered as the commands run.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " cohort.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s in %3$d ms (%4$.0f commands/s).";
+    public static final String MESSAGE_COMMAND_RESULT = "Line %1$d: %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\nNone of the commands in %3$s were run.";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s.";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot " + COMMAND_WORD + " another script.";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptPath;
+
+    /**
+     * Creates a {@code RunCommand} to run the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Parses every command in the script before running any of them, then runs them against a copy of
+     * {@code model}. Only if every command succeeds, their changes are made in {@code model} and committed together,
+     * so that a single undo reverts the whole script.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startNanos = System.nanoTime();
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, scriptPath), ioe);
+        }
+
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<Command> commands = new ArrayList<>();
+        AddressBookParser parser = new AddressBookParser();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                Command command = parser.parseCommand(line);
+                if (command instanceof RunCommand) {
+                    throw new ParseException(MESSAGE_NESTED_RUN);
+                }
+                commands.add(command);
+                lineNumbers.add(i + 1);
+            } catch (ParseException pe) {
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, pe.getMessage(), scriptPath));
+            }
+        }
+
+        Model scratchModel = model.copy();
+        StringBuilder results = new StringBuilder();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                CommandResult result = commands.get(i).execute(scratchModel);
+                results.append('\n').append(String.format(MESSAGE_COMMAND_RESULT, lineNumbers.get(i),
+                        result.getFeedbackToUser()));
+            } catch (CommandException ce) {
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumbers.get(i),
+                        ce.getMessage(), scriptPath));
+            }
+        }
+
+        model.applyChangesOf(scratchModel);
+        model.commitAddressBook();
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double commandsPerSecond = commands.size() * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+        String summary = String.format(MESSAGE_SUCCESS, commands.size(), scriptPath,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandsPerSecond);
+        logger.info(summary);
+        return new CommandResult(summary + results);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+}
@@ -31,6 +31,9 @@ import seedu.address.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final PrefixAutomaton PREFIX_AUTOMATON = new PrefixAutomaton(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_YEAR, PREFIX_MAJOR, PREFIX_HOUSING, PREFIX_LINK, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand and returns an
      * AddCommand object for execution.
@@ -38,10 +41,7 @@ public class AddCommandParser implements Parser<AddCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE,
-                        PREFIX_EMAIL, PREFIX_YEAR, PREFIX_MAJOR, PREFIX_HOUSING, PREFIX_LINK,
-                        PREFIX_TAG);
+        ArgumentMultimap argMultimap = PREFIX_AUTOMATON.tokenize(args);
 
         // Checks whether mandatory fields are present
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME)
@@ -27,6 +27,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private static final PrefixAutomaton PREFIX_AUTOMATON = new PrefixAutomaton(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_YEAR, PREFIX_MAJOR, PREFIX_HOUSING, PREFIX_LINK, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -34,9 +37,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      */
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_YEAR, PREFIX_MAJOR, PREFIX_HOUSING, PREFIX_LINK, PREFIX_TAG);
+        ArgumentMultimap argMultimap = PREFIX_AUTOMATON.tokenize(args);
 
         Index index;
 
@@ -1,7 +1,6 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.model.mod.ModuleCode.VALIDATION_REGEX;
 
 import java.util.Arrays;
 import java.util.logging.Level;
@@ -9,6 +8,7 @@ import java.util.logging.Logger;
 
 import seedu.address.logic.commands.FindModCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.mod.ModuleCode;
 import seedu.address.model.person.ModContainsKeywordsPredicate;
 
 /**
@@ -42,7 +42,7 @@ public class FindModCommandParser implements Parser<FindModCommand> {
         logger.info("Split keywords: " + Arrays.toString(nameKeywords));
 
         for (String keyword : nameKeywords) {
-            if (!keyword.matches(VALIDATION_REGEX)) {
+            if (!ModuleCode.isValidModuleCode(keyword)) {
                 logger.log(Level.SEVERE, "Invalid module format detected: {0}", keyword);
                 throw new ParseException(
                         String.format("ModuleCode format invalid!\n" + MESSAGE_INVALID_COMMAND_FORMAT,
@@ -0,0 +1,222 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tokenizes arguments strings with a fixed set of prefixes, as {@link ArgumentTokenizer} does, using an Aho-Corasick
+ * automaton built once from the prefixes.
+ *
+ * An occurrence of a prefix counts only if there is a whitespace before it, so the automaton matches each prefix with
+ * a space in front. It finds the occurrences of every prefix in a single scan of the arguments string, however many
+ * prefixes there are. An automaton never changes once built, so it may be shared, such as by every call of a parser.
+ */
+public class PrefixAutomaton {
+
+    private static final Prefix PREAMBLE = new Prefix("");
+    private static final int ROOT = 0;
+    private static final int OTHER_CHARACTER_CLASS = 0;
+    private static final int ASCII_LIMIT = 128;
+    private static final int INITIAL_MATCH_CAPACITY = 16;
+
+    private final Prefix[] prefixes;
+    /** Length of each prefix, with the space before it. */
+    private final int[] patternLengths;
+
+    /** Class of each ASCII character, numbered from 1 for characters in some prefix and 0 for the rest. */
+    private final int[] asciiCharacterClasses = new int[ASCII_LIMIT];
+    /** Class of each other character in some prefix. */
+    private final Map<Character, Integer> otherCharacterClasses = new HashMap<>();
+
+    private final int classCount;
+    /** The state reached from each state on a character of each class, at {@code state * classCount + class}. */
+    private final int[] transitions;
+    /** The prefixes that end at each state, in the order they were given. */
+    private final int[][] outputs;
+
+    /**
+     * Creates an automaton that tokenizes with {@code prefixes}. As with {@link ArgumentTokenizer}, a prefix given
+     * more than once, or a prefix that can occur within another prefix, leads to an exception when an arguments
+     * string contains both at once.
+     */
+    public PrefixAutomaton(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        this.prefixes = prefixes.clone();
+        patternLengths = new int[prefixes.length];
+        String[] patterns = new String[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            patterns[i] = " " + prefixes[i].getPrefix();
+            patternLengths[i] = patterns[i].length();
+        }
+
+        classCount = assignCharacterClasses(patterns);
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> ownOutputs = new ArrayList<>();
+        buildTrie(patterns, trie, ownOutputs);
+
+        int[][] trieTransitions = trie.toArray(new int[0][]);
+        outputs = new int[trieTransitions.length][];
+        addFailureTransitions(trieTransitions, ownOutputs);
+        transitions = new int[trieTransitions.length * classCount];
+        for (int state = 0; state < trieTransitions.length; state++) {
+            System.arraycopy(trieTransitions[state], 0, transitions, state * classCount, classCount);
+        }
+    }
+
+    private int assignCharacterClasses(String[] patterns) {
+        int classCount = OTHER_CHARACTER_CLASS + 1;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (characterClassOf(c) == OTHER_CHARACTER_CLASS) {
+                    if (c < ASCII_LIMIT) {
+                        asciiCharacterClasses[c] = classCount;
+                    } else {
+                        otherCharacterClasses.put(c, classCount);
+                    }
+                    classCount++;
+                }
+            }
+        }
+        return classCount;
+    }
+
+    /**
+     * Builds the trie of {@code patterns} into {@code trie}, where a transition of -1 means there is no child, and
+     * records the patterns that end at each state in {@code ownOutputs}.
+     */
+    private void buildTrie(String[] patterns, List<int[]> trie, List<List<Integer>> ownOutputs) {
+        trie.add(newState());
+        ownOutputs.add(new ArrayList<>());
+        for (int patternIndex = 0; patternIndex < patterns.length; patternIndex++) {
+            String pattern = patterns[patternIndex];
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                int characterClass = characterClassOf(pattern.charAt(i));
+                if (trie.get(state)[characterClass] == -1) {
+                    trie.get(state)[characterClass] = trie.size();
+                    trie.add(newState());
+                    ownOutputs.add(new ArrayList<>());
+                }
+                state = trie.get(state)[characterClass];
+            }
+            ownOutputs.get(state).add(patternIndex);
+        }
+    }
+
+    private int[] newState() {
+        int[] state = new int[classCount];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    /**
+     * Replaces each missing transition of the trie with the transition of the longest proper suffix of the state that
+     * is also in the trie, and adds the outputs of that suffix to the state, visiting the states breadth first.
+     */
+    private void addFailureTransitions(int[][] transitions, List<List<Integer>> ownOutputs) {
+        int[] failures = new int[transitions.length];
+        Deque<Integer> queue = new ArrayDeque<>();
+        outputs[ROOT] = toSortedArray(ownOutputs.get(ROOT), new int[0]);
+        for (int characterClass = 0; characterClass < classCount; characterClass++) {
+            int child = transitions[ROOT][characterClass];
+            if (child == -1) {
+                transitions[ROOT][characterClass] = ROOT;
+            } else {
+                failures[child] = ROOT;
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            outputs[state] = toSortedArray(ownOutputs.get(state), outputs[failures[state]]);
+            for (int characterClass = 0; characterClass < classCount; characterClass++) {
+                int child = transitions[state][characterClass];
+                int failureTarget = transitions[failures[state]][characterClass];
+                if (child == -1) {
+                    transitions[state][characterClass] = failureTarget;
+                } else {
+                    failures[child] = failureTarget;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    private static int[] toSortedArray(List<Integer> own, int[] inherited) {
+        int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int i = 0; i < own.size(); i++) {
+            merged[inherited.length + i] = own.get(i);
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private int characterClassOf(char c) {
+        if (c < ASCII_LIMIT) {
+            return asciiCharacterClasses[c];
+        }
+        return otherCharacterClasses.getOrDefault(c, OTHER_CHARACTER_CLASS);
+    }
+
+    /**
+     * Tokenizes {@code argsString} as {@link ArgumentTokenizer#tokenize(String, Prefix...)} does with the prefixes of
+     * this automaton.
+     *
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
+     */
+    public ArgumentMultimap tokenize(String argsString) {
+        // Each match is its position in the upper half and its prefix in the lower half, so that matches sort by
+        // position, then by the order the prefixes were given.
+        long[] matches = new long[INITIAL_MATCH_CAPACITY];
+        int matchCount = 0;
+        boolean isSorted = true;
+
+        // Every pattern starts with a space, so the automaton stays at the root until the next space.
+        int state = ROOT;
+        int index = argsString.indexOf(' ');
+        while (index != -1) {
+            state = transitions[state * classCount + characterClassOf(argsString.charAt(index))];
+            for (int prefixIndex : outputs[state]) {
+                // The prefix starts after the space that starts the pattern.
+                long position = index - patternLengths[prefixIndex] + 2;
+                long match = position << Integer.SIZE | prefixIndex;
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, matchCount * 2);
+                }
+                isSorted &= matchCount == 0 || matches[matchCount - 1] < match;
+                matches[matchCount++] = match;
+            }
+            if (state == ROOT) {
+                index = argsString.indexOf(' ', index + 1);
+            } else {
+                index = index + 1 < argsString.length() ? index + 1 : -1;
+            }
+        }
+        if (!isSorted) {
+            // Only when a longer prefix ends after a shorter one that starts later.
+            Arrays.sort(matches, 0, matchCount);
+        }
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix prefix = PREAMBLE;
+        int valueStart = 0;
+        for (int i = 0; i < matchCount; i++) {
+            int position = (int) (matches[i] >>> Integer.SIZE);
+            argMultimap.put(prefix, argsString.substring(valueStart, position).trim());
+            prefix = prefixes[(int) matches[i]];
+            valueStart = position + prefix.getPrefix().length();
+        }
+        argMultimap.put(prefix, argsString.substring(valueStart).trim());
+        return argMultimap;
+    }
+}
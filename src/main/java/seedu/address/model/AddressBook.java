@@ -2,10 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -16,6 +23,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final KeywordIndex nameIndex;
+    private final KeywordIndex moduleIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +35,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        nameIndex = new KeywordIndex(person -> Arrays.asList(person.getName().fullName.split("\\s+")));
+        moduleIndex = new KeywordIndex(person -> person.getModules().stream()
+                .map(module -> module.value)
+                .collect(Collectors.toList()));
     }
 
     public AddressBook() {}
@@ -46,6 +59,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        nameIndex.setPersons(persons);
+        moduleIndex.setPersons(persons);
     }
 
     /**
@@ -67,12 +82,39 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOfPerson(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        addToIndexes(p);
+    }
+
+    /**
+     * Inserts a person into the address book at {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+        addToIndexes(p);
+    }
+
+    /**
+     * Adds {@code persons} to the address book as a single change to the person list.
+     * None of the persons may already exist in the address book or appear in {@code persons} more than once.
+     */
+    public void addPersons(Collection<Person> persons) {
+        this.persons.addAll(persons);
+        persons.forEach(this::addToIndexes);
     }
 
     /**
@@ -84,6 +126,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
     }
 
     /**
@@ -92,6 +136,46 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        removeFromIndexes(key);
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook} as a single change to the person list.
+     * Every key must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+        keys.forEach(this::removeFromIndexes);
+    }
+
+    private void addToIndexes(Person person) {
+        nameIndex.add(person);
+        moduleIndex.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        nameIndex.remove(person);
+        moduleIndex.remove(person);
+    }
+
+    //// index lookups
+
+    /**
+     * Returns the names of all persons whose name contains any of {@code words} as a full word, ignoring case.
+     * This is a lookup in an index kept up to date with the person list, so it does not examine every person.
+     */
+    public Set<Name> getNamesContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        return nameIndex.getNamesMatchingAny(words);
+    }
+
+    /**
+     * Returns the names of all persons taking any of the modules in {@code moduleCodes}, ignoring case.
+     * This is a lookup in an index kept up to date with the person list, so it does not examine every person.
+     */
+    public Set<Name> getNamesTakingAnyModule(Collection<String> moduleCodes) {
+        requireNonNull(moduleCodes);
+        return moduleIndex.getNamesMatchingAny(moduleCodes);
     }
 
     //// util methods
@@ -108,6 +192,33 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an immutable snapshot of this address book as of its last change, which shares its persons with this
+     * address book instead of copying them. The snapshot may be read from any thread.
+     */
+    public ReadOnlyAddressBook getSnapshot() {
+        List<Person> snapshot = persons.getSnapshot();
+        // Iterates with the snapshot's own iterator, which is much faster than getting each person by index as the
+        // list wrappers of FXCollections do.
+        ObservableList<Person> snapshotPersons = new ObservableListBase<>() {
+            @Override
+            public Person get(int index) {
+                return snapshot.get(index);
+            }
+
+            @Override
+            public int size() {
+                return snapshot.size();
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return snapshot.iterator();
+            }
+        };
+        return () -> snapshotPersons;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
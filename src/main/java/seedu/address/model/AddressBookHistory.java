@@ -0,0 +1,379 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Records the changes made to an {@code AddressBook} so that they can be undone and redone.
+ *
+ * Changes are recorded as they are made, and grouped into a version by {@link #commit()}. Each change keeps only
+ * the persons it added, removed or replaced, so undoing or redoing a version takes time proportional to the size of
+ * its changes rather than the size of the address book.
+ *
+ * The committed versions are kept within a budget of estimated bytes. Once the budget is exceeded, the oldest
+ * versions are forgotten, though the latest version is always kept so that the last change can be undone.
+ */
+public class AddressBookHistory {
+
+    /** The default budget, in estimated bytes, of the recorded versions. */
+    public static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+    /** Estimated bytes taken by a person and its field objects, besides the characters of the fields. */
+    private static final long PERSON_BYTES = 200;
+    /** Estimated bytes taken by a tag, module or list element, besides the characters it holds. */
+    private static final long ELEMENT_BYTES = 80;
+    /** Estimated bytes taken by a change or version, besides the persons it holds. */
+    private static final long CHANGE_BYTES = 64;
+
+    private final long maxBytes;
+
+    private List<Change> uncommittedChanges = new ArrayList<>();
+    private long uncommittedBytes = 0;
+
+    /** Versions that can be undone, the latest first. */
+    private final Deque<Version> undoableVersions = new ArrayDeque<>();
+    /** Versions that can be redone, the earliest first. */
+    private final Deque<Version> redoableVersions = new ArrayDeque<>();
+    /** Estimated bytes of the versions in {@code undoableVersions} and {@code redoableVersions}. */
+    private long committedBytes = 0;
+    /** True if versions have been forgotten to stay within the budget. */
+    private boolean isAnyVersionForgotten = false;
+
+    /**
+     * Creates an empty history that keeps up to {@code maxBytes} estimated bytes of versions.
+     */
+    public AddressBookHistory(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Maximum history size cannot be negative: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records that {@code persons} were added to the end of the person list.
+     */
+    public void recordAdded(Collection<Person> persons) {
+        record(new Added(new ArrayList<>(persons)));
+    }
+
+    /**
+     * Records that {@code persons} were removed from the person list, where {@code positions} holds the position
+     * each of them had before any was removed.
+     */
+    public void recordRemoved(List<Person> persons, int[] positions) {
+        record(new Removed(persons, positions));
+    }
+
+    /**
+     * Records that {@code target} was replaced with {@code editedPerson}.
+     */
+    public void recordReplaced(Person target, Person editedPerson) {
+        record(new Replaced(target, editedPerson));
+    }
+
+    /**
+     * Records that the person list was replaced. {@code before} and {@code after} are the whole lists before and
+     * after, and must not be changed afterwards.
+     */
+    public void recordReset(List<Person> before, List<Person> after) {
+        record(new Reset(before, after));
+    }
+
+    /**
+     * Makes the changes in effect in {@code other} again in {@code addressBook}, and records them here as uncommitted
+     * changes. The changes in effect are the ones that led the address book of {@code other} from the state it started
+     * in to its current state, so {@code addressBook} must be in the state {@code other} started in.
+     *
+     * @throws IllegalStateException if {@code other} has forgotten versions to stay within its budget.
+     */
+    public void replay(AddressBookHistory other, AddressBook addressBook) {
+        requireNonNull(other);
+        requireNonNull(addressBook);
+        if (other.isAnyVersionForgotten) {
+            throw new IllegalStateException("Some of the changes to replay have been forgotten.");
+        }
+
+        Iterator<Version> versions = other.undoableVersions.descendingIterator();
+        while (versions.hasNext()) {
+            for (Change change : versions.next().changes) {
+                change.redo(addressBook);
+                record(change);
+            }
+        }
+        for (Change change : other.uncommittedChanges) {
+            change.redo(addressBook);
+            record(change);
+        }
+    }
+
+    private void record(Change change) {
+        uncommittedChanges.add(change);
+        uncommittedBytes += change.estimateBytes();
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into a version that can be undone, and forgets the versions
+     * that could be redone. Does nothing if no changes have been recorded.
+     */
+    public void commit() {
+        if (uncommittedChanges.isEmpty()) {
+            return;
+        }
+
+        for (Version redoableVersion : redoableVersions) {
+            committedBytes -= redoableVersion.bytes;
+        }
+        redoableVersions.clear();
+
+        Version version = new Version(uncommittedChanges, uncommittedBytes);
+        undoableVersions.addFirst(version);
+        committedBytes += version.bytes;
+        uncommittedChanges = new ArrayList<>();
+        uncommittedBytes = 0;
+
+        while (committedBytes > maxBytes && undoableVersions.size() > 1) {
+            committedBytes -= undoableVersions.removeLast().bytes;
+            isAnyVersionForgotten = true;
+        }
+    }
+
+    /**
+     * Returns true if there are committed or uncommitted changes to undo.
+     */
+    public boolean canUndo() {
+        return !uncommittedChanges.isEmpty() || !undoableVersions.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone version to redo, and no changes have been recorded since it was undone.
+     */
+    public boolean canRedo() {
+        return uncommittedChanges.isEmpty() && !redoableVersions.isEmpty();
+    }
+
+    /**
+     * Commits any uncommitted changes, then undoes the latest version in {@code addressBook}, which must be in the
+     * state the version left it in.
+     */
+    public void undo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        commit();
+        if (undoableVersions.isEmpty()) {
+            throw new IllegalStateException("There is no version to undo.");
+        }
+        Version version = undoableVersions.removeFirst();
+        for (int i = version.changes.size() - 1; i >= 0; i--) {
+            version.changes.get(i).undo(addressBook);
+        }
+        redoableVersions.addFirst(version);
+    }
+
+    /**
+     * Redoes the earliest undone version in {@code addressBook}, which must be in the state undoing it left it in.
+     */
+    public void redo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no version to redo.");
+        }
+        Version version = redoableVersions.removeFirst();
+        for (Change change : version.changes) {
+            change.redo(addressBook);
+        }
+        undoableVersions.addFirst(version);
+    }
+
+    /**
+     * Returns the estimated bytes of the committed versions.
+     */
+    public long getCommittedBytes() {
+        return committedBytes;
+    }
+
+    /**
+     * Returns a rough estimate of the bytes taken by {@code person} and its fields.
+     */
+    static long estimateBytes(Person person) {
+        long bytes = PERSON_BYTES;
+        for (Object field : Arrays.asList(person.getName(), person.getPhone(), person.getEmail(), person.getMajor(),
+                person.getHousing(), person.getLink())) {
+            if (field != null) {
+                bytes += field.toString().length();
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            bytes += ELEMENT_BYTES + tag.tagName.length();
+        }
+        return bytes + person.getModules().size() * ELEMENT_BYTES;
+    }
+
+    private static long estimateBytes(Collection<Person> persons) {
+        return persons.stream().mapToLong(AddressBookHistory::estimateBytes).sum();
+    }
+
+    /**
+     * The changes committed together.
+     */
+    private static class Version {
+        private final List<Change> changes;
+        private final long bytes;
+
+        Version(List<Change> changes, long bytes) {
+            this.changes = changes;
+            this.bytes = bytes + CHANGE_BYTES;
+        }
+    }
+
+    /**
+     * A change to an address book that can be undone and redone.
+     */
+    private interface Change {
+        /** Reverts this change in {@code addressBook}, which must be in the state the change left it in. */
+        void undo(AddressBook addressBook);
+
+        /** Makes this change again in {@code addressBook}, which must be in the state undoing it left it in. */
+        void redo(AddressBook addressBook);
+
+        /** Returns the estimated bytes taken by this change. */
+        long estimateBytes();
+    }
+
+    private static class Added implements Change {
+        private final List<Person> persons;
+
+        Added(List<Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.removePersons(persons);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.addPersons(persons);
+        }
+
+        @Override
+        public long estimateBytes() {
+            return CHANGE_BYTES + AddressBookHistory.estimateBytes(persons);
+        }
+    }
+
+    private static class Removed implements Change {
+        /** The removed persons, in the order of their positions. */
+        private final List<Person> persons;
+        /** The position of each removed person, in ascending order. */
+        private final int[] positions;
+
+        Removed(List<Person> persons, int[] positions) {
+            assert persons.size() == positions.length;
+            Integer[] order = new Integer[positions.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (first, second) -> Integer.compare(positions[first], positions[second]));
+
+            this.persons = new ArrayList<>(order.length);
+            this.positions = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                this.persons.add(persons.get(order[i]));
+                this.positions[i] = positions[order[i]];
+            }
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            // Inserting in ascending order puts each person back at its position among the persons before it.
+            for (int i = 0; i < positions.length; i++) {
+                addressBook.addPerson(positions[i], persons.get(i));
+            }
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.removePersons(persons);
+        }
+
+        @Override
+        public long estimateBytes() {
+            return CHANGE_BYTES + AddressBookHistory.estimateBytes(persons) + Integer.BYTES * positions.length;
+        }
+    }
+
+    private static class Replaced implements Change {
+        private final Person target;
+        private final Person editedPerson;
+
+        Replaced(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPerson(editedPerson, target);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPerson(target, editedPerson);
+        }
+
+        @Override
+        public long estimateBytes() {
+            return CHANGE_BYTES + AddressBookHistory.estimateBytes(target)
+                    + AddressBookHistory.estimateBytes(editedPerson);
+        }
+    }
+
+    private static class Reset implements Change {
+        private final List<Person> before;
+        private final List<Person> after;
+
+        Reset(List<Person> before, List<Person> after) {
+            this.before = requireNonNull(before);
+            this.after = requireNonNull(after);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPersons(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPersons(after);
+        }
+
+        /**
+         * Counts the persons in only one of the lists in full, as the persons in both are shared between them.
+         */
+        @Override
+        public long estimateBytes() {
+            Set<Person> beforeSet = new HashSet<>(before);
+            Set<Person> afterSet = new HashSet<>(after);
+            long bytes = CHANGE_BYTES + ELEMENT_BYTES * (before.size() + after.size());
+            for (Person person : before) {
+                bytes += afterSet.contains(person) ? 0 : AddressBookHistory.estimateBytes(person);
+            }
+            for (Person person : after) {
+                bytes += beforeSet.contains(person) ? 0 : AddressBookHistory.estimateBytes(person);
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from keywords to the persons whose data contain them.
+ * Keywords are matched ignoring case, and persons are recorded by their {@code Name}, which is unique within an
+ * address book.
+ *
+ * The index does not observe the persons it indexes; its owner must call {@link #add(Person)} and
+ * {@link #remove(Person)} whenever a person enters or leaves the address book.
+ */
+class KeywordIndex {
+
+    private final Function<Person, Collection<String>> keywordsExtractor;
+    private final Map<String, Set<Name>> namesByKeyword = new HashMap<>();
+
+    /**
+     * Creates an empty index over the keywords given by {@code keywordsExtractor} for each person.
+     */
+    KeywordIndex(Function<Person, Collection<String>> keywordsExtractor) {
+        requireNonNull(keywordsExtractor);
+        this.keywordsExtractor = keywordsExtractor;
+    }
+
+    /**
+     * Records all keywords of {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String keyword : keywordsExtractor.apply(person)) {
+            namesByKeyword.computeIfAbsent(StringUtil.foldCase(keyword), unused -> new HashSet<>())
+                    .add(person.getName());
+        }
+    }
+
+    /**
+     * Forgets all keywords of {@code person}.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String keyword : keywordsExtractor.apply(person)) {
+            String key = StringUtil.foldCase(keyword);
+            Set<Name> names = namesByKeyword.get(key);
+            if (names == null) {
+                continue;
+            }
+            names.remove(person.getName());
+            if (names.isEmpty()) {
+                namesByKeyword.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the keywords of {@code persons}.
+     */
+    void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        namesByKeyword.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the names of all persons with any of the given {@code keywords}, ignoring case.
+     * The returned set is a fresh copy and is not affected by later changes to the index.
+     */
+    Set<Name> getNamesMatchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> names = new HashSet<>();
+        for (String keyword : keywords) {
+            names.addAll(namesByKeyword.getOrDefault(StringUtil.foldCase(keyword), Set.of()));
+        }
+        return names;
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ModContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,6 +19,14 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /**
+     * Returns the lock that guards the address book and the filtered person list.
+     * Every method of the model takes the lock it needs. A thread that reads the address book through
+     * {@link #getAddressBook()} must hold the read lock while doing so, and a thread that makes several changes that
+     * must appear together, such as a command, must hold the write lock for all of them.
+     */
+    ReadWriteLock getLock();
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -49,9 +62,18 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
-    /** Returns the AddressBook */
+    /**
+     * Returns the AddressBook, which changes along with the model.
+     * Threads other than the one changing the model must hold the read lock of {@link #getLock()} while reading it.
+     */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book as of its last change.
+     * Unlike {@link #getAddressBook()}, the snapshot may be read from any thread without holding the lock.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +91,25 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons in one change to the person list, and shows all persons.
+     * None of {@code persons} may already exist in the address book or appear in {@code persons} more than once.
+     * If any does, the address book is left unchanged.
+     */
+    void addPersons(Collection<Person> persons);
+
+    /**
+     * Deletes the given persons in one change to the person list.
+     * All of {@code targets} must exist in the address book. If any does not, the address book is left unchanged.
+     */
+    void deletePersons(Collection<Person> targets);
+
+    /**
+     * Replaces all persons in the address book with {@code persons} in one change to the person list.
+     * {@code persons} must not contain duplicate persons.
+     */
+    void setPersons(Collection<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -79,9 +120,70 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable copy of the filtered person list that is only changed by tasks run on {@code executor},
+     * such as {@code Platform::runLater}, so that it can be shown on that thread while the model changes on others.
+     */
+    ObservableList<Person> getFilteredPersonList(Executor executor);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matching {@code predicate}.
+     * Unlike {@link #updateFilteredPersonList(Predicate)}, the matching persons are looked up in the address book's
+     * name index instead of testing {@code predicate} against every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matching {@code predicate}.
+     * Unlike {@link #updateFilteredPersonList(Predicate)}, the matching persons are looked up in the address book's
+     * module index instead of testing {@code predicate} against every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByModules(ModContainsKeywordsPredicate predicate);
+
+    /**
+     * Groups the changes made to the address book since the last commit into one that can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there are changes to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there are undone changes to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the latest committed changes to the address book, committing any uncommitted changes first.
+     * There must be changes to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Redoes the latest undone changes to the address book. There must be changes to redo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Returns a copy of this model with its own history of changes, which starts empty.
+     * The changes made to the copy can then be made in this model with {@link #applyChangesOf(Model)}.
+     */
+    Model copy();
+
+    /**
+     * Makes the changes in effect in {@code copy}, which must have been created by {@link #copy()} of this model, in
+     * the address book, as uncommitted changes. This model must not have changed since {@code copy} was created.
+     * Undoing the changes takes time proportional to their size, not the size of the address book.
+     */
+    void applyChangesOf(Model copy);
 }
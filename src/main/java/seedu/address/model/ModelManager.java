@@ -4,6 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,10 +19,15 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ObservableListMirror;
+import seedu.address.model.person.ModContainsKeywordsPredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
  * Represents the in-memory model of the address book data.
+ * Any number of threads may read it at once, while one thread at a time changes it, as guarded by {@link #getLock()}.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -22,24 +35,40 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final AddressBookHistory history;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, AddressBookHistory.DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which keeps up to
+     * {@code maxHistoryBytes} estimated bytes of changes to undo.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, long maxHistoryBytes) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        history = new AddressBookHistory(maxHistoryBytes);
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    @Override
+    public ReadWriteLock getLock() {
+        return lock;
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -79,7 +108,14 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        lock.writeLock().lock();
+        try {
+            List<Person> before = getPersonsSnapshot();
+            this.addressBook.resetData(addressBook);
+            history.recordReset(before, getPersonsSnapshot());
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -87,28 +123,176 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        lock.readLock().lock();
+        try {
+            return addressBook.hasPerson(person);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        lock.writeLock().lock();
+        try {
+            int position = addressBook.indexOfPerson(target);
+            addressBook.removePerson(target);
+            history.recordRemoved(Collections.singletonList(target), new int[] {position});
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        lock.writeLock().lock();
+        try {
+            addressBook.addPerson(person);
+            history.recordAdded(Collections.singletonList(person));
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        lock.writeLock().lock();
+        try {
+            addressBook.addPersons(persons);
+            history.recordAdded(persons);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        lock.writeLock().lock();
+        try {
+            List<Person> targetList = new ArrayList<>(targets);
+            int[] positions = targetList.stream().mapToInt(addressBook::indexOfPerson).toArray();
+            addressBook.removePersons(targetList);
+            history.recordRemoved(targetList, positions);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void setPersons(Collection<Person> persons) {
+        lock.writeLock().lock();
+        try {
+            List<Person> before = getPersonsSnapshot();
+            addressBook.setPersons(new ArrayList<>(persons));
+            history.recordReset(before, getPersonsSnapshot());
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        lock.writeLock().lock();
+        try {
+            addressBook.setPerson(target, editedPerson);
+            history.recordReplaced(target, editedPerson);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
 
-        addressBook.setPerson(target, editedPerson);
+    private List<Person> getPersonsSnapshot() {
+        return addressBook.getSnapshot().getPersonList();
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        lock.writeLock().lock();
+        try {
+            history.commit();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        lock.readLock().lock();
+        try {
+            return history.canUndo();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        lock.readLock().lock();
+        try {
+            return history.canRedo();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void undoAddressBook() {
+        lock.writeLock().lock();
+        try {
+            history.undo(addressBook);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void redoAddressBook() {
+        lock.writeLock().lock();
+        try {
+            history.redo(addressBook);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Model copy() {
+        lock.readLock().lock();
+        try {
+            // Keeps every change, so that all of them can be applied to this model.
+            return new ModelManager(addressBook, userPrefs, Long.MAX_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void applyChangesOf(Model copy) {
+        requireNonNull(copy);
+        if (!(copy instanceof ModelManager)) {
+            throw new IllegalArgumentException("The copy must have been created by copy().");
+        }
+        lock.writeLock().lock();
+        try {
+            history.replay(((ModelManager) copy).history, addressBook);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -122,10 +306,59 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public ObservableList<Person> getFilteredPersonList(Executor executor) {
+        requireNonNull(executor);
+        lock.readLock().lock();
+        try {
+            return new ObservableListMirror<>(filteredPersons, executor).asUnmodifiableObservableList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        lock.writeLock().lock();
+        try {
+            filteredPersons.setPredicate(predicate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        lock.writeLock().lock();
+        try {
+            if (!predicate.getKeywords().stream().allMatch(ModelManager::isSingleWord)) {
+                // Only single words are indexed, so leave anything else to the predicate itself.
+                updateFilteredPersonList(predicate);
+                return;
+            }
+            Set<Name> matchingNames = addressBook.getNamesContainingAnyWord(predicate.getKeywords());
+            filteredPersons.setPredicate(person -> matchingNames.contains(person.getName()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateFilteredPersonListByModules(ModContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        lock.writeLock().lock();
+        try {
+            Set<Name> matchingNames = addressBook.getNamesTakingAnyModule(predicate.getKeywords());
+            filteredPersons.setPredicate(person -> matchingNames.contains(person.getName()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean isSingleWord(String keyword) {
+        return !keyword.isEmpty() && keyword.chars().noneMatch(Character::isWhitespace);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.mod;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents the Module Code of an NUS course
  * Guarantees: immutable; is valid as declared in
@@ -21,6 +23,7 @@ public class ModuleCode {
      *
      */
     public static final String VALIDATION_REGEX = "[A-Za-z]{2,4}\\d{4}[A-Za-z0-9]{0,5}(?:\\(TA\\))?";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -39,7 +42,7 @@ public class ModuleCode {
      * Returns if a given string is a valid module code.
      */
     public static boolean isValidModuleCode(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -21,15 +21,6 @@ public class Email {
             + "    - end with a domain label at least 2 characters long\n"
             + "    - have each domain label start and end with alphanumeric characters\n"
             + "    - have each domain label consist of alphanumeric characters, separated only by hyphens, if any.";
-    // alphanumeric and special characters
-    private static final String ALPHANUMERIC_NO_UNDERSCORE = "[^\\W_]+"; // alphanumeric characters except underscore
-    private static final String LOCAL_PART_REGEX = "^" + ALPHANUMERIC_NO_UNDERSCORE + "([" + SPECIAL_CHARACTERS + "]"
-            + ALPHANUMERIC_NO_UNDERSCORE + ")*";
-    private static final String DOMAIN_PART_REGEX = ALPHANUMERIC_NO_UNDERSCORE
-            + "(-" + ALPHANUMERIC_NO_UNDERSCORE + ")*";
-    private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
-    private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
-    public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
     public final String value;
 
@@ -46,9 +37,59 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Takes time linear in the length of {@code test}, whatever it contains.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int atIndex = test.indexOf('@');
+        return atIndex != -1 && isValidLocalPart(test, 0, atIndex)
+                && isValidDomain(test, atIndex + 1, test.length());
+    }
+
+    /**
+     * Returns if {@code test} from {@code start} to {@code end} is made up of alphanumeric characters, with single
+     * special characters between them.
+     */
+    private static boolean isValidLocalPart(String test, int start, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) != -1) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns if {@code test} from {@code start} to {@code end} is made up of domain labels separated by periods,
+     * where each label is made up of alphanumeric characters with single hyphens between them, and the last label
+     * has two alphanumeric characters in a row.
+     */
+    private static boolean isValidDomain(String test, int start, int end) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasAlphanumericPair = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                hasAlphanumericPair |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && (c == '-' || c == '.')) {
+                isAfterAlphanumeric = false;
+                // Only the last label needs a pair.
+                hasAlphanumericPair &= c == '-';
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && hasAlphanumericPair;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     @Override
@@ -28,7 +28,7 @@ public class Person {
     private final Housing housing;
     private final Set<Tag> tags = new HashSet<>();
     private final Link link;
-
+    private final Set<ModuleCode> modules;
 
     /**
      * Every field must be present and not null. Constructs a person based on link.
@@ -46,6 +46,21 @@ public class Person {
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        this.modules = parseModules(link);
+    }
+
+    /**
+     * Returns the immutable set of modules in {@code link}, or an empty set if there is no link.
+     */
+    private static Set<ModuleCode> parseModules(Link link) {
+        if (link == null) {
+            return Set.of();
+        }
+        Set<ModuleCode> modules = new HashSet<>();
+        for (String module : link.getShareLink().getModuleCodes()) {
+            modules.add(new ModuleCode(module));
+        }
+        return Collections.unmodifiableSet(modules);
     }
 
     public Name getName() {
@@ -87,16 +102,10 @@ public class Person {
     /**
      * Returns an immutable module set, which throws {@code UnsupportedOperationException} if
      * modification is attempted.
+     * The modules are parsed from the link once, when this person is created, and the same set is returned on
+     * every call.
      */
     public Set<ModuleCode> getModules() {
-        if (link == null) {
-            return new HashSet<ModuleCode>();
-        }
-        Set<String> stringModules = Link.extractCodes(link.value);
-        Set<ModuleCode> modules = new HashSet<ModuleCode>();
-        for (String module : stringModules) {
-            modules.add(new ModuleCode(module));
-        }
         return modules;
     }
 
@@ -130,12 +139,12 @@ public class Person {
 
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && year.equals(otherPerson.year)
-                && major.equals(otherPerson.major)
-                && housing.equals(otherPerson.housing)
-                && link.equals(otherPerson.link)
+                && Objects.equals(phone, otherPerson.phone)
+                && Objects.equals(email, otherPerson.email)
+                && Objects.equals(year, otherPerson.year)
+                && Objects.equals(major, otherPerson.major)
+                && Objects.equals(housing, otherPerson.housing)
+                && Objects.equals(link, otherPerson.link)
                 && tags.equals(otherPerson.tags);
     }
 
@@ -155,7 +164,7 @@ public class Person {
                 .add("major", major)
                 .add("housing", housing)
                 .add("tags", tags)
-                .add("modules", this.getModules())
+                .add("modules", modules)
                 .add("link", link)
                 .toString();
     }
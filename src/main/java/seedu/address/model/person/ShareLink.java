@@ -0,0 +1,427 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.mod.ModuleCode;
+
+/**
+ * Represents the parts of a NUSMods timetable share link, e.g.
+ * {@code https://nusmods.com/timetable/sem-2/share?CS2103T=LEC:G12&CS3230=LEC:1,TUT:10&ta=CS3230(TUT:10)}.
+ * Guarantees: immutable; every module code is valid as declared in {@link ModuleCode#isValidModuleCode(String)}.
+ */
+public class ShareLink {
+
+    private static final String SCHEME_PREFIX = "https://";
+    private static final String HOST = "nusmods.com";
+    private static final String TIMETABLE_PATH = "/timetable/";
+    private static final String SHARE_SUFFIX = "/share";
+    private static final String[] SEMESTERS = {"sem-1", "sem-2", "st-i", "st-ii"};
+    private static final String TA_KEY = "ta";
+    private static final String HIDDEN_KEY = "hidden";
+    private static final String TA_SEPARATOR = "),";
+    private static final String TA_SUFFIX = "(TA)";
+
+    /** Characters other than alphanumerics allowed as-is in the query of a URI. */
+    private static final String QUERY_PUNCTUATION = "-_.!~*'();/?:@&=+$,[]";
+    /** Characters other than alphanumerics allowed as-is in the user information of a URI. */
+    private static final String USER_INFO_PUNCTUATION = "-_.!~*'();:&=+$,";
+
+    private final String semester;
+    private final Set<String> moduleCodes;
+    private final Map<String, String> lessons;
+    private final Set<String> taModules;
+    private final Set<String> hiddenModules;
+
+    private ShareLink(String semester, Set<String> moduleCodes, Map<String, String> lessons,
+            Set<String> taModules, Set<String> hiddenModules) {
+        this.semester = semester;
+        this.moduleCodes = Collections.unmodifiableSet(moduleCodes);
+        this.lessons = Collections.unmodifiableMap(lessons);
+        this.taModules = Collections.unmodifiableSet(taModules);
+        this.hiddenModules = Collections.unmodifiableSet(hiddenModules);
+    }
+
+    /**
+     * Parses {@code link} in a single scan, returning {@code Optional.empty()} if it is not a valid share link.
+     *
+     * A valid share link is {@code https://nusmods.com/timetable/SEMESTER/share}, where {@code SEMESTER} is one of
+     * {@code sem-1}, {@code sem-2}, {@code st-i} or {@code st-ii}, optionally followed by a {@code ?} and a query of
+     * {@code &}-separated {@code MODULE[=LESSONS]} pairs. The special {@code ta=MODULE(LESSONS),...} pair marks
+     * modules taught as a teaching assistant and {@code hidden=MODULE,...} lists modules hidden in the timetable.
+     * A trailing {@code #} fragment is allowed and ignored.
+     *
+     * As with {@code java.net.URI}, the host may be preceded by user information and followed by a port, e.g.
+     * {@code https://user@nusmods.com:443/timetable/...}, and the path may be percent-encoded, e.g.
+     * {@code /timetable/sem-%31/share}.
+     */
+    public static Optional<ShareLink> parse(String link) {
+        requireNonNull(link);
+        if (!link.startsWith(SCHEME_PREFIX)) {
+            return Optional.empty();
+        }
+        int authorityStart = SCHEME_PREFIX.length();
+        int pathStart = indexOfAny(link, "/?#", authorityStart);
+        int pathEnd = indexOfAny(link, "?#", pathStart);
+        if (!isNusmodsAuthority(link, authorityStart, pathStart)) {
+            return Optional.empty();
+        }
+        String semester = findSemester(decodePath(link, pathStart, pathEnd));
+        if (semester == null) {
+            return Optional.empty();
+        }
+        int fragmentStart = link.indexOf('#', pathEnd);
+        int queryEnd = fragmentStart == -1 ? link.length() : fragmentStart;
+        if (fragmentStart != -1 && !isQuery(link, fragmentStart + 1, link.length())) {
+            return Optional.empty();
+        }
+        if (pathEnd < queryEnd && link.charAt(pathEnd) != '?') {
+            return Optional.empty();
+        }
+        int queryStart = pathEnd + 1;
+
+        Set<String> moduleCodes = new HashSet<>();
+        Map<String, String> lessons = new LinkedHashMap<>();
+        Set<String> taModules = new HashSet<>();
+        Set<String> hiddenModules = new HashSet<>();
+
+        // Empty pairs are only tolerated at the end of the query, e.g. "CS2101=&".
+        boolean hasEmptyPair = false;
+        int pairStart = queryStart;
+        while (pairStart <= queryEnd) {
+            int pairEnd = link.indexOf('&', pairStart);
+            if (pairEnd == -1 || pairEnd > queryEnd) {
+                pairEnd = queryEnd;
+            }
+            if (pairStart == pairEnd) {
+                hasEmptyPair = true;
+            } else if (hasEmptyPair
+                    || !parsePair(link, pairStart, pairEnd, moduleCodes, lessons, taModules, hiddenModules)) {
+                return Optional.empty();
+            }
+            pairStart = pairEnd + 1;
+        }
+
+        for (String moduleCode : moduleCodes) {
+            if (!ModuleCode.isValidModuleCode(moduleCode)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ShareLink(semester, moduleCodes, lessons, taModules, hiddenModules));
+    }
+
+    /**
+     * Returns the index of the first of {@code characters} in {@code link} from {@code fromIndex}, or the length of
+     * {@code link} if there is none.
+     */
+    private static int indexOfAny(String link, String characters, int fromIndex) {
+        for (int i = fromIndex; i < link.length(); i++) {
+            if (characters.indexOf(link.charAt(i)) != -1) {
+                return i;
+            }
+        }
+        return link.length();
+    }
+
+    /**
+     * Returns true if {@code link[start, end)} is the authority {@code [USER_INFO@]nusmods.com[:PORT]}.
+     */
+    private static boolean isNusmodsAuthority(String link, int start, int end) {
+        int hostStart = start;
+        int userInfoEnd = link.indexOf('@', start);
+        if (userInfoEnd != -1 && userInfoEnd < end) {
+            if (!isUserInfo(link, start, userInfoEnd)) {
+                return false;
+            }
+            hostStart = userInfoEnd + 1;
+        }
+        int hostEnd = hostStart + HOST.length();
+        if (hostEnd > end || !link.startsWith(HOST, hostStart)) {
+            return false;
+        }
+        if (hostEnd == end) {
+            return true;
+        }
+        if (link.charAt(hostEnd) != ':') {
+            return false;
+        }
+        long port = 0;
+        for (int i = hostEnd + 1; i < end; i++) {
+            char c = link.charAt(i);
+            port = port * 10 + (c - '0');
+            // java.net.URI rejects a port that does not fit in an int.
+            if (c < '0' || c > '9' || port > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code link[start, end)} may appear as the user information of a {@code java.net.URI}.
+     */
+    private static boolean isUserInfo(String link, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = link.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= end || !isHexDigit(link.charAt(i + 1)) || !isHexDigit(link.charAt(i + 2))) {
+                    return false;
+                }
+                i += 2;
+            } else if (c < 0x80 ? !isAlphanumeric(c) && USER_INFO_PUNCTUATION.indexOf(c) == -1
+                    : Character.isSpaceChar(c) || Character.isISOControl(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the path {@code link[start, end)} with its percent escapes decoded, or null if it has a malformed
+     * escape. Escaped bytes outside ASCII are kept as single characters, as no share link path contains them.
+     */
+    private static String decodePath(String link, int start, int end) {
+        int firstEscape = link.indexOf('%', start);
+        if (firstEscape == -1 || firstEscape >= end) {
+            return link.substring(start, end);
+        }
+        StringBuilder path = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = link.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= end || !isHexDigit(link.charAt(i + 1)) || !isHexDigit(link.charAt(i + 2))) {
+                    return null;
+                }
+                c = (char) Integer.parseInt(link, i + 1, i + 3, 16);
+                i += 2;
+            }
+            path.append(c);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Returns the semester in {@code path}, or null if {@code path} is not a share link path.
+     */
+    private static String findSemester(String path) {
+        if (path == null || !path.startsWith(TIMETABLE_PATH)) {
+            return null;
+        }
+        int semesterStart = TIMETABLE_PATH.length();
+        for (String semester : SEMESTERS) {
+            int suffixStart = semesterStart + semester.length();
+            if (path.startsWith(semester, semesterStart) && path.startsWith(SHARE_SUFFIX, suffixStart)
+                    && path.length() == suffixStart + SHARE_SUFFIX.length()) {
+                return semester;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the query pair {@code link[start, end)} into the given collections.
+     * Returns false if the pair is malformed.
+     */
+    private static boolean parsePair(String link, int start, int end, Set<String> moduleCodes,
+            Map<String, String> lessons, Set<String> taModules, Set<String> hiddenModules) {
+        if (!isQuery(link, start, end)) {
+            return false;
+        }
+        int separator = link.indexOf('=', start);
+        if (separator >= end) {
+            separator = -1;
+        }
+        if (separator == start) {
+            return false;
+        }
+        if (separator == -1) {
+            String moduleCode = link.substring(start, end);
+            moduleCodes.add(moduleCode);
+            lessons.put(moduleCode, "");
+            return true;
+        }
+
+        String key = link.substring(start, separator);
+        if (key.equals(TA_KEY)) {
+            return parseTaModules(link, separator + 1, end, moduleCodes, taModules);
+        }
+        if (key.equals(HIDDEN_KEY)) {
+            parseHiddenModules(link, separator + 1, end, hiddenModules);
+            return true;
+        }
+        moduleCodes.add(key);
+        lessons.put(key, link.substring(separator + 1, end));
+        return true;
+    }
+
+    /**
+     * Parses the value {@code link[start, end)} of a {@code ta} pair, e.g. {@code CS3230(TUT:10),CS2040S(LAB:1)}.
+     * Each module taught is recorded with a {@code (TA)} suffix in place of its plain module code.
+     * Returns false if the value has an empty entry.
+     */
+    private static boolean parseTaModules(String link, int start, int end, Set<String> moduleCodes,
+            Set<String> taModules) {
+        if (start == end) {
+            return false;
+        }
+        // Empty entries are only tolerated at the end of the value.
+        boolean hasEmptyEntry = false;
+        int entryStart = start;
+        while (entryStart < end) {
+            int entryEnd = link.indexOf(TA_SEPARATOR, entryStart);
+            if (entryEnd == -1 || entryEnd + TA_SEPARATOR.length() > end) {
+                entryEnd = end;
+            }
+            if (entryStart == entryEnd) {
+                hasEmptyEntry = true;
+            } else if (hasEmptyEntry) {
+                return false;
+            } else {
+                int lessonsStart = link.indexOf('(', entryStart);
+                if (lessonsStart == -1 || lessonsStart >= entryEnd) {
+                    moduleCodes.add(link.substring(entryStart, entryEnd));
+                } else {
+                    String moduleCode = link.substring(entryStart, lessonsStart);
+                    moduleCodes.remove(moduleCode);
+                    moduleCodes.add(moduleCode + TA_SUFFIX);
+                    taModules.add(moduleCode);
+                }
+            }
+            entryStart = entryEnd + TA_SEPARATOR.length();
+        }
+        return true;
+    }
+
+    /**
+     * Parses the value {@code link[start, end)} of a {@code hidden} pair, e.g. {@code CS2030,CS2040}.
+     */
+    private static void parseHiddenModules(String link, int start, int end, Set<String> hiddenModules) {
+        int entryStart = start;
+        while (entryStart < end) {
+            int entryEnd = link.indexOf(',', entryStart);
+            if (entryEnd == -1 || entryEnd > end) {
+                entryEnd = end;
+            }
+            if (entryStart < entryEnd) {
+                hiddenModules.add(link.substring(entryStart, entryEnd));
+            }
+            entryStart = entryEnd + 1;
+        }
+    }
+
+    /**
+     * Returns true if {@code link[start, end)} may appear as the query or fragment of a {@code java.net.URI}.
+     */
+    private static boolean isQuery(String link, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = link.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= end || !isHexDigit(link.charAt(i + 1)) || !isHexDigit(link.charAt(i + 2))) {
+                    return false;
+                }
+                i += 2;
+            } else if (!isQueryCharacter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} may appear unescaped in the query of a {@code java.net.URI}.
+     */
+    private static boolean isQueryCharacter(char c) {
+        if (c < 0x80) {
+            return isAlphanumeric(c) || QUERY_PUNCTUATION.indexOf(c) != -1;
+        }
+        return !Character.isSpaceChar(c) && !Character.isISOControl(c);
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Returns the semester of the timetable, e.g. {@code sem-1} or {@code st-ii}.
+     */
+    public String getSemester() {
+        return semester;
+    }
+
+    /**
+     * Returns an immutable set of the module codes in the timetable. Modules taught as a teaching assistant carry a
+     * {@code (TA)} suffix instead of appearing as their plain module code.
+     */
+    public Set<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    /**
+     * Returns an immutable map of each module code in the timetable to its lesson slots, e.g. {@code LEC:1,TUT:10},
+     * in the order they appear in the link. Modules taught as a teaching assistant are not included.
+     */
+    public Map<String, String> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns an immutable set of the plain module codes taught as a teaching assistant.
+     */
+    public Set<String> getTaModules() {
+        return taModules;
+    }
+
+    /**
+     * Returns an immutable set of the module codes hidden in the timetable.
+     */
+    public Set<String> getHiddenModules() {
+        return hiddenModules;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ShareLink)) {
+            return false;
+        }
+
+        ShareLink otherShareLink = (ShareLink) other;
+        return semester.equals(otherShareLink.semester)
+                && moduleCodes.equals(otherShareLink.moduleCodes)
+                && lessons.equals(otherShareLink.lessons)
+                && taModules.equals(otherShareLink.taModules)
+                && hiddenModules.equals(otherShareLink.hiddenModules);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(semester, moduleCodes, lessons, taModules, hiddenModules);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("semester", semester)
+                .add("moduleCodes", moduleCodes)
+                .add("lessons", lessons)
+                .add("taModules", taModules)
+                .add("hiddenModules", hiddenModules)
+                .toString();
+    }
+}
@@ -3,11 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +26,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Since two persons are the same person exactly when their names are equal, the position of every person in the
+ * backing list is additionally indexed by {@code Name}. This keeps identity checks, updates and removals from having
+ * to scan the whole list.
+ *
+ * Every change also makes a new immutable snapshot of the list, which shares most of its structure with the previous
+ * one. Other threads may read the latest snapshot without synchronization.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,12 +41,30 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Position of each person in {@code internalList}, keyed by the person's name. */
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+
+    /** The persons in {@code internalList} as of its last change. */
+    private volatile PersistentList<Person> snapshot = PersistentList.empty();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is no such person.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = positionsByName.get(person.getName());
+        if (index == null || !person.equals(internalList.get(index))) {
+            return -1;
+        }
+        return index;
     }
 
     /**
@@ -45,9 +76,48 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positionsByName.put(toAdd.getName(), internalList.size());
+        snapshot = snapshot.plus(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list at {@code index}, moving the persons from {@code index} onwards back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (index < 0 || index > internalList.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + internalList.size());
+        }
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        snapshot = snapshot.plus(index, toAdd);
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, in order, as a single change to the list.
+     * None of the persons may already exist in the list or appear in {@code toAdd} more than once. If any does, the
+     * list is left unchanged.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int startIndex = internalList.size();
+        snapshot = snapshot.plusAll(toAdd);
+        internalList.addAll(toAdd);
+        reindexFrom(startIndex);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +126,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +135,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        snapshot = snapshot.with(index, editedPerson);
         internalList.set(index, editedPerson);
+        positionsByName.remove(target.getName());
+        positionsByName.put(editedPerson.getName(), index);
     }
 
     /**
@@ -74,14 +147,50 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        snapshot = snapshot.minus(index);
+        internalList.remove(index);
+        positionsByName.remove(toRemove.getName());
+        reindexFrom(index);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list, as a single change to the list.
+     * All of the persons must exist in the list. If any does not, the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        int firstIndex = internalList.size();
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            firstIndex = Math.min(firstIndex, index);
+        }
+        if (toRemove.isEmpty()) {
+            return;
+        }
+
+        Set<Person> personsToRemove = new HashSet<>(toRemove);
+        internalList.removeAll(personsToRemove);
+        snapshot = PersistentList.of(internalList);
+        for (Person person : personsToRemove) {
+            positionsByName.remove(person.getName());
+        }
+        reindexFrom(firstIndex);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        snapshot = replacement.snapshot;
         internalList.setAll(replacement.internalList);
+        positionsByName.clear();
+        positionsByName.putAll(replacement.positionsByName);
     }
 
     /**
@@ -94,7 +203,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        snapshot = PersistentList.of(persons);
         internalList.setAll(persons);
+        positionsByName.clear();
+        reindexFrom(0);
     }
 
     /**
@@ -104,6 +216,13 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable snapshot of the list as of its last change. It may be read from any thread.
+     */
+    public List<Person> getSnapshot() {
+        return snapshot;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -134,15 +253,23 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Records the positions of all persons from {@code startIndex} to the end of the backing list.
+     */
+    private void reindexFrom(int startIndex) {
+        for (int i = startIndex; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
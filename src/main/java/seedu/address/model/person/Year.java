@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents the year of study of an NUS student.
  * Guarantees: immutable; is valid as declared in {@link #isValidYear(String)}
@@ -9,6 +11,7 @@ public enum Year {
 
     public static final String MESSAGE_CONSTRAINTS = "Year should be 1, 2, 3, 4, 5, or 6.";
     public static final String VALIDATION_REGEX = "[1-6]";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final int value;
 
     Year(int year) {
@@ -19,7 +22,7 @@ public enum Year {
      * Returns true if a given string is a valid year.
      */
     public static boolean isValidYear(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -0,0 +1,271 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Housing;
+import seedu.address.model.person.Link;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Year;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates realistic persons for testing the app at scale. Generators created with the same seed generate the same
+ * persons in the same order, and every person a generator generates has a different name.
+ *
+ * Module codes are drawn so that a few modules are taken by many persons and most by few, as in a real cohort.
+ */
+public class PersonGenerator {
+
+    private static final String[] FIRST_NAMES = {"Wei Ming", "Jia Hui", "Xin Yi", "Jun Jie", "Hui Min", "Zhi Hao",
+        "Kai Wen", "Shu Ting", "Yong Sheng", "Li Ting", "Alex", "Bernice", "Charlotte", "David", "Ethan", "Farah",
+        "Gabriel", "Hannah", "Irfan", "Jasmine", "Kumar", "Lakshmi", "Muhammad", "Nurul", "Oliver", "Priya",
+        "Qistina", "Rahul", "Siti", "Timothy", "Umar", "Vanessa", "Wen Xuan", "Yusuf", "Zara", "Aisyah", "Brandon",
+        "Chloe", "Darren", "Elaine", "Faris", "Grace", "Haziq", "Isabel", "Joel", "Kavya", "Lucas", "Megan",
+        "Nathan", "Rachel"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan",
+        "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho", "Low", "Toh", "Sim", "Chong", "Chia", "Abdullah", "Rahman",
+        "Ismail", "Hassan", "Ibrahim", "Kumar", "Pillai", "Nair", "Singh", "Raj", "Menon", "Das", "Smith",
+        "Fernandez", "Pereira", "Nguyen", "Kim", "Park", "Wang", "Zhang"};
+    private static final String[] MAJORS = {"Computer Science", "Computer Science", "Computer Science",
+        "Business Analytics", "Information Systems", "Information Security", "Computer Engineering",
+        "Data Science and Analytics", "Mathematics", "Statistics", "Economics", "Business Administration"};
+    private static final String[] RESIDENCES = {"Eusoff Hall", "Kent Ridge Hall", "King Edward VII Hall",
+        "Raffles Hall", "Sheares Hall", "Temasek Hall", "Tembusu College", "Cinnamon College",
+        "College of Alice and Peter Tan", "Residential College 4", "Ridge View Residential College",
+        "Prince George's Park Residences", "UTown Residence", "Pioneer House", "LightHouse", "Helix House"};
+    private static final String[] STREETS = {"Ang Mo Kio Avenue", "Bedok North Street", "Clementi Avenue",
+        "Geylang Street", "Jurong West Street", "Pasir Ris Drive", "Punggol Field", "Serangoon Avenue",
+        "Tampines Street", "Woodlands Drive", "Yishun Ring Road", "Toa Payoh Lorong"};
+    /** Module codes, from the most to the least taken. */
+    private static final String[] MODULES = {"CS1101S", "CS1231S", "MA1521", "GEA1000", "CS2030S", "CS2040S",
+        "CS2100", "CS2101", "CS2103T", "MA1522", "ST2334", "CS2106", "CS2109S", "IS1108", "ES2660", "CS3230",
+        "MA2001", "CS2102", "CS3243", "CS3244", "GESS1025", "CS3203", "CS3219", "BT1101", "IS2218", "CS3281",
+        "CS4231", "CS4248", "EE2026", "CG2111A", "DTK1234", "GEC1015", "CS3223", "CS3240", "CS4234", "CS5330"};
+    /** Modules a teaching assistant may teach. */
+    private static final String[] TA_MODULES = {"CS1101S", "CS1231S", "CS2030S", "CS2040S", "CS2100", "CS2103T"};
+    private static final String[] TAGS = {"friends", "classmates", "groupmates", "hallmates", "neighbours",
+        "teammates", "cca", "seniors"};
+    private static final String[] LESSON_TYPES = {"TUT", "LAB", "REC"};
+    private static final int MIN_MODULE_COUNT = 3;
+    private static final int MAX_MODULE_COUNT = 6;
+    private static final double[] MODULE_CUMULATIVE_WEIGHTS = cumulativeZipfWeights(MODULES.length);
+
+    private final Random random;
+    private final int nameCount = FIRST_NAMES.length * LAST_NAMES.length;
+    /** Steps through every name once in each round, in an order that depends on the seed. */
+    private final int nameStride;
+    private final int nameOffset;
+    private long generatedCount = 0;
+
+    /**
+     * Creates a generator whose persons are determined by {@code seed}.
+     */
+    public PersonGenerator(long seed) {
+        random = new Random(seed);
+        nameOffset = random.nextInt(nameCount);
+        int stride = 1 + random.nextInt(nameCount - 1);
+        while (gcd(stride, nameCount) != 1) {
+            stride++;
+        }
+        nameStride = stride;
+    }
+
+    /**
+     * Returns the next person.
+     */
+    public Person next() {
+        long index = generatedCount++;
+        int nameIndex = (int) ((index % nameCount * nameStride + nameOffset) % nameCount);
+        long round = index / nameCount;
+        String firstName = FIRST_NAMES[nameIndex % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[nameIndex / FIRST_NAMES.length];
+        String name = firstName + " " + lastName + (round == 0 ? "" : " " + (round + 1));
+
+        Year year = generateYear();
+        return new Person(new Name(name),
+                chance(0.95) ? new Phone(generatePhone()) : null,
+                chance(0.95) ? new Email(generateEmail(firstName, lastName, round)) : null,
+                year,
+                chance(0.9) ? new Major(pick(MAJORS)) : null,
+                chance(0.8) ? new Housing(generateHousing()) : null,
+                chance(0.9) ? new Link(generateLink(year)) : null,
+                generateTags());
+    }
+
+    /**
+     * Returns the next {@code count} persons.
+     */
+    public List<Person> generate(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(next());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an iterator over the next {@code count} persons, each generated only when it is taken.
+     */
+    public Iterator<Person> iterator(long count) {
+        return new Iterator<>() {
+            private long remaining = count;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Person next() {
+                if (remaining <= 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                return PersonGenerator.this.next();
+            }
+        };
+    }
+
+    private Year generateYear() {
+        double value = random.nextDouble();
+        if (value < 0.05) {
+            return null;
+        }
+        // Most students are in their first four years.
+        return value < 0.97 ? Year.values()[random.nextInt(4)] : Year.values()[4 + random.nextInt(2)];
+    }
+
+    private String generatePhone() {
+        // Singapore mobile numbers start with 8 or 9.
+        return (chance(0.6) ? "9" : "8") + zeroPad(random.nextInt(10_000_000), 7);
+    }
+
+    private String generateEmail(String firstName, String lastName, long round) {
+        if (chance(0.7)) {
+            return "e" + zeroPad(random.nextInt(10_000_000), 7) + "@u.nus.edu";
+        }
+        String localPart = (firstName + "." + lastName).toLowerCase().replace(" ", "");
+        return localPart + (round == 0 ? "" : String.valueOf(round + 1)) + "@gmail.com";
+    }
+
+    private String generateHousing() {
+        if (chance(0.4)) {
+            return pick(RESIDENCES);
+        }
+        return "Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS) + " " + (1 + random.nextInt(90))
+                + ", #" + zeroPad(2 + random.nextInt(20), 2) + "-" + zeroPad(1 + random.nextInt(60), 2);
+    }
+
+    private String generateLink(Year year) {
+        StringBuilder link = new StringBuilder("https://nusmods.com/timetable/")
+                .append(chance(0.5) ? "sem-1" : "sem-2").append("/share?");
+        Set<String> modules = new LinkedHashSet<>();
+        int moduleCount = MIN_MODULE_COUNT + random.nextInt(MAX_MODULE_COUNT - MIN_MODULE_COUNT + 1);
+        while (modules.size() < moduleCount) {
+            modules.add(MODULES[pickWeighted(MODULE_CUMULATIVE_WEIGHTS)]);
+        }
+
+        String taModule = null;
+        boolean isSenior = year != null && year.compareTo(Year.YEAR_3) >= 0;
+        if (isSenior && chance(0.15)) {
+            taModule = pick(TA_MODULES);
+            modules.add(taModule);
+        }
+
+        String taLessons = null;
+        for (String module : modules) {
+            String lessons = chance(0.2) ? "" : generateLessons();
+            if (module.equals(taModule)) {
+                lessons = "TUT:" + zeroPad(1 + random.nextInt(30), 2);
+                taLessons = lessons;
+            }
+            link.append(module).append('=').append(lessons).append('&');
+        }
+        if (taModule == null) {
+            link.setLength(link.length() - 1);
+        } else {
+            link.append("ta=").append(taModule).append('(').append(taLessons).append(')');
+        }
+        return link.toString();
+    }
+
+    private String generateLessons() {
+        String lecture = chance(0.3) ? "G" + (1 + random.nextInt(20)) : String.valueOf(1 + random.nextInt(2));
+        return "LEC:" + lecture + "," + pick(LESSON_TYPES) + ":" + zeroPad(1 + random.nextInt(30), 2);
+    }
+
+    private Set<Tag> generateTags() {
+        Set<Tag> tags = new LinkedHashSet<>();
+        int tagCount = random.nextInt(3);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(pick(TAGS)));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns {@code value} with leading zeros added to make it {@code width} digits long.
+     */
+    private static String zeroPad(int value, int width) {
+        StringBuilder digits = new StringBuilder(String.valueOf(value));
+        while (digits.length() < width) {
+            digits.insert(0, '0');
+        }
+        return digits.toString();
+    }
+
+    private boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns an index into the weights whose cumulative sums are {@code cumulativeWeights}, chosen with probability
+     * proportional to its weight.
+     */
+    private int pickWeighted(double[] cumulativeWeights) {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeWeights[middle] <= target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the cumulative sums of {@code count} weights that follow Zipf's law, where the weight of the value of
+     * rank {@code r} is {@code 1 / r}.
+     */
+    private static double[] cumulativeZipfWeights(int count) {
+        double[] cumulativeWeights = new double[count];
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += 1.0 / (i + 1);
+            cumulativeWeights[i] = sum;
+        }
+        return cumulativeWeights;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
@@ -0,0 +1,307 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindModCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * Serves the address book over HTTP on the loopback interface, so that several local tools can query and change it
+ * at the same time.
+ *
+ * {@code POST /commands} with {@code {"command": "find alex"}} runs one of the commands in {@link #SERVED_COMMANDS}
+ * and returns its feedback and the persons it lists. Indexes in commands refer to the full list of persons.
+ * {@code GET /persons} returns every person.
+ *
+ * Commands that only list persons are evaluated on the snapshot of the address book, so they run at the same time as
+ * each other and as the commands that change it, which take turns through the write lock of the model.
+ */
+public class AddressBookServer {
+
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String PERSONS_PATH = "/persons";
+
+    /** Words of the commands that can be run over HTTP. */
+    public static final List<String> SERVED_COMMANDS = Arrays.asList(ListCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD, FindModCommand.COMMAND_WORD, AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD);
+
+    public static final String MESSAGE_COMMAND_NOT_SERVED = "The command \"%1$s\" is not available over HTTP.";
+    public static final String MESSAGE_INVALID_REQUEST = "The request body must be {\"command\": \"COMMAND\"}.";
+
+    /** Words of the served commands that only list persons, and so do not need the write lock of the model. */
+    private static final List<String> LISTING_COMMANDS = Arrays.asList(ListCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD, FindModCommand.COMMAND_WORD);
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookServer.class);
+
+    /** Longest time {@link #stop()} waits for the requests being handled to finish. */
+    private static final int STOP_TIMEOUT_SECONDS = 5;
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_BAD_METHOD = 405;
+
+    private final Model model;
+    private final Logic logic;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a server for the address book in {@code model}, which runs commands through {@code logic} and listens
+     * on {@code port} of the loopback interface, or any free port if {@code port} is 0. Requests are handled by
+     * {@code threadCount} threads.
+     *
+     * @throws IOException if the port could not be bound.
+     */
+    public AddressBookServer(Model model, Logic logic, int port, int threadCount) throws IOException {
+        requireNonNull(model);
+        requireNonNull(logic);
+        this.model = model;
+        this.logic = logic;
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.createContext(COMMANDS_PATH, this::handleCommand);
+        httpServer.createContext(PERSONS_PATH, this::handlePersons);
+        executor = Executors.newFixedThreadPool(threadCount);
+        httpServer.setExecutor(executor);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("Serving the address book at http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + getPort() + "/");
+    }
+
+    /**
+     * Stops accepting requests, and waits up to {@value #STOP_TIMEOUT_SECONDS} seconds for the requests being handled
+     * to finish.
+     */
+    public void stop() {
+        httpServer.stop(STOP_TIMEOUT_SECONDS);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Stopped serving the address book before all requests were handled.");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Runs {@code commandText}, which must be one of the {@link #SERVED_COMMANDS}, against the full list of persons.
+     */
+    public CommandResponse execute(String commandText) throws CommandException, ParseException {
+        requireNonNull(commandText);
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        if (!SERVED_COMMANDS.contains(commandWord)) {
+            throw new ParseException(String.format(MESSAGE_COMMAND_NOT_SERVED, commandWord));
+        }
+
+        if (LISTING_COMMANDS.contains(commandWord)) {
+            return list(addressBookParser.parseCommand(commandText));
+        }
+
+        // Commands that change the address book take turns, and each sees the changes of the ones before it.
+        model.getLock().writeLock().lock();
+        try {
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            CommandResult commandResult = logic.execute(commandText);
+            List<JsonAdaptedPerson> persons = adapt(logic.getFilteredPersonList());
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResponse(commandResult.getFeedbackToUser(), persons);
+        } finally {
+            model.getLock().writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the persons {@code command}, one of the {@link #LISTING_COMMANDS}, lists from the snapshot of the
+     * address book, with the feedback it would give for them.
+     */
+    private CommandResponse list(Command command) {
+        Predicate<Person> predicate = getListingPredicate(command);
+        List<Person> persons = model.getAddressBookSnapshot().getPersonList().stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+        String feedback;
+        if (command instanceof ListCommand) {
+            feedback = ListCommand.MESSAGE_SUCCESS;
+        } else if (persons.size() == 1) {
+            feedback = Messages.MESSAGE_PERSON_LISTED_OVERVIEW;
+        } else {
+            feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, persons.size());
+        }
+        return new CommandResponse(feedback, adapt(persons));
+    }
+
+    private static Predicate<Person> getListingPredicate(Command command) {
+        if (command instanceof FindCommand) {
+            return ((FindCommand) command).getPredicate();
+        } else if (command instanceof FindModCommand) {
+            return ((FindModCommand) command).getPredicate();
+        } else {
+            assert command instanceof ListCommand;
+            return Model.PREDICATE_SHOW_ALL_PERSONS;
+        }
+    }
+
+    /**
+     * Returns every person in the address book.
+     */
+    public List<JsonAdaptedPerson> getPersons() {
+        return adapt(model.getAddressBookSnapshot().getPersonList());
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        if (!isExactPath(exchange, COMMANDS_PATH)) {
+            respond(exchange, HTTP_NOT_FOUND, new ErrorResponse("No such path."));
+            return;
+        }
+        if (!exchange.getRequestMethod().equals("POST")) {
+            respond(exchange, HTTP_BAD_METHOD, new ErrorResponse("Use POST to run a command."));
+            return;
+        }
+
+        CommandRequest request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = JsonUtil.fromJsonString(new String(body.readAllBytes(), StandardCharsets.UTF_8),
+                    CommandRequest.class);
+        } catch (IOException ioe) {
+            request = null;
+        }
+        if (request == null || request.command == null) {
+            respond(exchange, HTTP_BAD_REQUEST, new ErrorResponse(MESSAGE_INVALID_REQUEST));
+            return;
+        }
+
+        try {
+            respond(exchange, HTTP_OK, execute(request.command));
+        } catch (CommandException | ParseException e) {
+            respond(exchange, HTTP_BAD_REQUEST, new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        if (!isExactPath(exchange, PERSONS_PATH)) {
+            respond(exchange, HTTP_NOT_FOUND, new ErrorResponse("No such path."));
+            return;
+        }
+        if (!exchange.getRequestMethod().equals("GET")) {
+            respond(exchange, HTTP_BAD_METHOD, new ErrorResponse("Use GET to list persons."));
+            return;
+        }
+        respond(exchange, HTTP_OK, new PersonsResponse(getPersons()));
+    }
+
+    private static boolean isExactPath(HttpExchange exchange, String path) {
+        return exchange.getRequestURI().getPath().equals(path);
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object response) throws IOException {
+        byte[] body = JsonUtil.toJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+    }
+
+    /**
+     * The body of a request to run a command.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+
+    /**
+     * The result of a command run over HTTP.
+     */
+    public static class CommandResponse {
+        private final String feedback;
+        private final List<JsonAdaptedPerson> persons;
+
+        CommandResponse(String feedback, List<JsonAdaptedPerson> persons) {
+            this.feedback = feedback;
+            this.persons = new ArrayList<>(persons);
+        }
+
+        public String getFeedback() {
+            return feedback;
+        }
+
+        public List<JsonAdaptedPerson> getPersons() {
+            return persons;
+        }
+    }
+
+    /**
+     * The body of a response listing every person.
+     */
+    private static class PersonsResponse {
+        private final List<JsonAdaptedPerson> persons;
+
+        PersonsResponse(List<JsonAdaptedPerson> persons) {
+            this.persons = persons;
+        }
+    }
+
+    /**
+     * The body of a response to a request that failed.
+     */
+    private static class ErrorResponse {
+        private final String error;
+
+        ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+}
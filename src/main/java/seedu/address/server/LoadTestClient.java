@@ -0,0 +1,139 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Sends the same command to an {@link AddressBookServer} from several clients at once, and reports the throughput
+ * and latency of the requests.
+ */
+public class LoadTestClient {
+
+    public static final String MESSAGE_USAGE = "Usage: LoadTestClient PORT [CLIENTS] [REQUESTS] [COMMAND]\n"
+            + "Sends REQUESTS requests to run COMMAND (default: list) from CLIENTS clients at once.";
+    public static final String MESSAGE_RESULT = "%1$d requests (%2$d failed) from %3$d clients in %4$.2f s: "
+            + "%5$.0f requests/s, p50 %6$.2f ms, p99 %7$.2f ms, max %8$.2f ms";
+
+    private static final int DEFAULT_CLIENTS = 8;
+    private static final int DEFAULT_REQUESTS = 10000;
+    private static final String DEFAULT_COMMAND = "list";
+
+    /**
+     * Runs the load test described by {@code args}. See {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        int port = Integer.parseInt(args[0]);
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CLIENTS;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REQUESTS;
+        String command = args.length > 3 ? args[3] : DEFAULT_COMMAND;
+        if (clients < 1 || requests < 1) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        System.out.println(run(port, clients, requests, command));
+    }
+
+    /**
+     * Sends {@code requests} requests to run {@code command} to the server on {@code port} of the loopback interface,
+     * from {@code clients} threads, and returns a summary of how long they took.
+     */
+    public static String run(int port, int clients, int requests, String command) throws Exception {
+        URL url = new URL("http://127.0.0.1:" + port + AddressBookServer.COMMANDS_PATH);
+        byte[] body = JsonUtil.toJsonString(new CommandRequest(command)).getBytes(StandardCharsets.UTF_8);
+
+        long[] latencyNanos = new long[requests];
+        AtomicInteger nextRequest = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long startNanos = System.nanoTime();
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            results.add(executor.submit(() -> {
+                for (int r = nextRequest.getAndIncrement(); r < requests; r = nextRequest.getAndIncrement()) {
+                    long requestStartNanos = System.nanoTime();
+                    int status = post(url, body);
+                    latencyNanos[r] = System.nanoTime() - requestStartNanos;
+                    if (status != HttpURLConnection.HTTP_OK) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        Arrays.sort(latencyNanos);
+        double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return String.format(MESSAGE_RESULT, requests, failures.get(), clients, elapsedSeconds,
+                requests / elapsedSeconds, toMillis(percentile(latencyNanos, 50)),
+                toMillis(percentile(latencyNanos, 99)), toMillis(latencyNanos[latencyNanos.length - 1]));
+    }
+
+    /**
+     * Posts {@code body} to {@code url}, reads the whole response, and returns its status code.
+     * Connections are kept alive and reused between requests from the same thread.
+     */
+    private static int post(URL url, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        try (in) {
+            in.readAllBytes();
+        }
+        return status;
+    }
+
+    /**
+     * Returns the value below which {@code percent} percent of the values in {@code sortedValues} fall.
+     */
+    static long percentile(long[] sortedValues, double percent) {
+        int index = (int) Math.ceil(percent / 100 * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, Math.min(index, sortedValues.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The body of a request to run a command.
+     */
+    private static class CommandRequest {
+        private final String command;
+
+        CommandRequest(String command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the json and binary formats.
+ * A file whose name ends with {@code .json} is in json, and any other file is in binary.
+ */
+public class AddressBookFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFileConverter SOURCE_FILE TARGET_FILE\n"
+            + "Files ending with .json are in json, and all other files are in binary.";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    /**
+     * Converts the file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + StringUtil.getDetails(e));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the format of the address book file at {@code filePath}, going by its name.
+     */
+    public static StorageFormat getFormatOf(Path filePath) {
+        return filePath.toString().endsWith(JSON_FILE_EXTENSION) ? StorageFormat.JSON : StorageFormat.BINARY;
+    }
+
+    /**
+     * Reads the address book at {@code source} and writes it to {@code target}, each in the format given by its name.
+     *
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if {@code source} does not exist or {@code target} could not be written.
+     */
+    public static void convert(Path source, Path target) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        ReadOnlyAddressBook addressBook = createStorage(source).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(source.toString()));
+        createStorage(target).saveAddressBook(addressBook);
+    }
+
+    private static AddressBookStorage createStorage(Path filePath) {
+        return getFormatOf(filePath) == StorageFormat.JSON
+                ? new JsonAddressBookStorage(filePath)
+                : new BinaryAddressBookStorage(filePath);
+    }
+
+}
@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Forces the saved address book onto the storage device, unless the fsync policy is
+     * {@link seedu.address.commons.core.FsyncPolicy#NEVER}.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void syncAddressBook() throws IOException;
+
 }
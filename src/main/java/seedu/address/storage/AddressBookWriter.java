@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.LatencyHistogram;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} in the background.
+ * Address books submitted in quick succession are coalesced, so that only the latest one is written. A submitted
+ * address book is written at most {@code maxSaveDelayMillis} milliseconds after it is submitted, plus the time taken
+ * by any save already in progress.
+ *
+ * Errors from background saves are passed to the error handler on the background thread. The address book that
+ * failed to save is kept, and written again by the next {@link #submit(ReadOnlyAddressBook)} or {@link #flush()}.
+ */
+public class AddressBookWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookWriter.class);
+
+    private final AddressBookStorage storage;
+    private final long maxSaveDelayMillis;
+    private final ScheduledExecutorService executor;
+
+    private final LatencyHistogram saveLatency = new LatencyHistogram();
+
+    /** Held while writing to {@code storage}, so that at most one save is in progress. */
+    private final Object saveLock = new Object();
+
+    private volatile Consumer<IOException> errorHandler = e -> { };
+
+    // Guarded by this.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ScheduledFuture<?> scheduledSave;
+
+    /**
+     * Creates an {@code AddressBookWriter} that saves to {@code storage}.
+     * If {@code maxSaveDelayMillis} is zero, every submitted address book is saved immediately on the submitting
+     * thread.
+     */
+    public AddressBookWriter(AddressBookStorage storage, long maxSaveDelayMillis) {
+        requireNonNull(storage);
+        if (maxSaveDelayMillis < 0) {
+            throw new IllegalArgumentException("Maximum save delay cannot be negative: " + maxSaveDelayMillis);
+        }
+        this.storage = storage;
+        this.maxSaveDelayMillis = maxSaveDelayMillis;
+        this.executor = maxSaveDelayMillis == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler of errors from saves made in the background.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        this.errorHandler = requireNonNull(errorHandler);
+    }
+
+    /**
+     * Returns the latencies of the saves that succeeded, whether made in the background or not.
+     */
+    public LatencyHistogram getSaveLatency() {
+        return saveLatency;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any submitted address book that has not been saved yet.
+     * {@code addressBook} must not be modified after it is submitted.
+     *
+     * @throws IOException if the maximum save delay is zero and saving failed.
+     */
+    public void submit(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            pendingAddressBook = addressBook;
+            if (executor != null && scheduledSave == null) {
+                scheduledSave = executor.schedule(this::saveInBackground, maxSaveDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (executor == null) {
+            flush();
+        }
+    }
+
+    /**
+     * Saves the latest submitted address book on the calling thread, if it has not been saved yet.
+     * Waits for any save in progress to finish first.
+     *
+     * @throws IOException if saving failed.
+     */
+    public void flush() throws IOException {
+        synchronized (saveLock) {
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                pendingAddressBook = null;
+                if (scheduledSave != null) {
+                    scheduledSave.cancel(false);
+                    scheduledSave = null;
+                }
+            }
+            if (addressBook == null) {
+                return;
+            }
+
+            long startNanos = System.nanoTime();
+            try {
+                storage.saveAddressBook(addressBook);
+                saveLatency.record(System.nanoTime() - startNanos);
+            } catch (IOException ioe) {
+                synchronized (this) {
+                    if (pendingAddressBook == null) {
+                        pendingAddressBook = addressBook;
+                    }
+                }
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Saves the latest submitted address book and stops the background thread.
+     *
+     * @throws IOException if saving failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void saveInBackground() {
+        try {
+            flush();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(ioe));
+            errorHandler.accept(ioe);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file.
+ *
+ * The file holds the same fields as {@link JsonAdaptedPerson}, each string prefixed by its length in a variable
+ * number of bytes instead of quoted and named, followed by a checksum of the whole file. Values are validated when
+ * read, exactly as in the json file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book %s is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    /** Marks the start of a binary address book file: "ABB1". */
+    private static final int MAGIC = 0x41424231;
+    /** Magic and number of persons. */
+    private static final int HEADER_LENGTH = Integer.BYTES + Integer.BYTES;
+    /** Checksum of the rest of the file. */
+    private static final int TRAILER_LENGTH = Integer.BYTES;
+    /** Length written in place of a missing string. Other lengths are written plus one. */
+    private static final int NULL_LENGTH = 0;
+
+    private final Path filePath;
+    private final FsyncPolicy fsyncPolicy;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that saves to {@code filePath},
+     * forcing every save to disk, as the app does by default.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that saves to {@code filePath}, forcing saves to disk according to
+     * {@code fsyncPolicy}.
+     */
+    public BinaryAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
+        this.filePath = filePath;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(decode(Files.readAllBytes(filePath), filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, encode(addressBook), fsyncPolicy == FsyncPolicy.ALWAYS);
+    }
+
+    @Override
+    public void syncAddressBook() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            FileUtil.forceToDisk(filePath);
+        }
+    }
+
+    /**
+     * Returns {@code addressBook} in the binary format.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_LENGTH + persons.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(person);
+            writeString(out, adaptedPerson.getName());
+            writeString(out, adaptedPerson.getPhone());
+            writeString(out, adaptedPerson.getEmail());
+            writeString(out, adaptedPerson.getYear());
+            writeString(out, adaptedPerson.getMajor());
+            writeString(out, adaptedPerson.getHousing());
+            writeString(out, adaptedPerson.getLink());
+            writeLength(out, adaptedPerson.getTags().size());
+            for (JsonAdaptedTag tag : adaptedPerson.getTags()) {
+                writeString(out, tag.getTagName());
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the address book in {@code data}, which was read from {@code filePath}.
+     *
+     * @throws IOException if {@code data} is not a valid binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook decode(byte[] data, Path filePath) throws IOException, IllegalValueException {
+        int bodyLength = data.length - TRAILER_LENGTH;
+        if (bodyLength < HEADER_LENGTH) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, bodyLength);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        in.skipBytes(bodyLength);
+        if (in.readInt() != (int) crc.getValue()) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+        }
+
+        in = new DataInputStream(new ByteArrayInputStream(data, 0, bodyLength));
+        int personCount = in.readInt() == MAGIC ? in.readInt() : -1;
+        if (personCount < 0) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(in);
+            String phone = readString(in);
+            String email = readString(in);
+            String year = readString(in);
+            String major = readString(in);
+            String housing = readString(in);
+            String link = readString(in);
+            int tagCount = readLength(in);
+            if (tagCount > in.available()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+            }
+            List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+            for (int j = 0; j < tagCount; j++) {
+                String tagName = readString(in);
+                if (tagName == null) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+                }
+                tags.add(new JsonAdaptedTag(tagName));
+            }
+
+            Person person = new JsonAdaptedPerson(name, phone, email, year, major, housing, link, tags)
+                    .toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        if (in.available() > 0) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+        }
+        return addressBook;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeLength(out, NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeLength(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readLength(in);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length - 1 > in.available()) {
+            throw new IOException("Invalid string length " + (length - 1));
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code length} seven bits at a time, lowest first, so that lengths under 128 take a single byte.
+     */
+    private static void writeLength(DataOutputStream out, int length) throws IOException {
+        while ((length & ~0x7F) != 0) {
+            out.writeByte((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.writeByte(length);
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (length < 0) {
+                    break;
+                }
+                return length;
+            }
+        }
+        throw new IOException("Invalid length");
+    }
+
+}
@@ -0,0 +1,525 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot, followed by a journal of the changes made since.
+ * The snapshot is kept by another {@code AddressBookStorage}, in json unless specified otherwise.
+ *
+ * Saving appends only the persons added, edited or deleted since the last save to the journal, which is stored next
+ * to the snapshot with a {@code .journal} suffix. Once the journal outgrows the snapshot, the whole address book is
+ * compacted into a new snapshot and the journal is started afresh.
+ *
+ * Each save appends one journal record, which carries its length and checksum. A record cut short at the end of the
+ * journal, such as by a crash while it was being written, is discarded when reading. A journal written for an older
+ * snapshot, such as by a crash during compaction, is ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_CORRUPTED_JOURNAL = "Journal %s is corrupted at byte %d.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    /** Marks the start of a journal file: "ABJ1". */
+    private static final int MAGIC = 0x41424A31;
+    /** Magic, snapshot length and snapshot checksum. */
+    private static final int JOURNAL_HEADER_LENGTH = Integer.BYTES + Long.BYTES + Long.BYTES;
+    /** Payload length and payload checksum. */
+    private static final int RECORD_HEADER_LENGTH = Integer.BYTES + Integer.BYTES;
+    /** Journals smaller than this are never compacted, however small the snapshot. */
+    private static final long MIN_COMPACTION_LENGTH = 64 * 1024;
+
+    private final Path filePath;
+    private final FsyncPolicy fsyncPolicy;
+    private final AddressBookStorage snapshotStorage;
+
+    // The state of the address book last read from or saved to savedFilePath, which the journal continues from.
+    private Path savedFilePath;
+    private List<Person> savedPersons;
+    private long snapshotLength;
+    private long snapshotChecksum;
+    /** Length of the valid part of the journal, or 0 if the journal has to be started afresh. */
+    private long journalLength;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that saves to {@code filePath} and its journal,
+     * forcing every save to disk, as the app does by default.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that saves to {@code filePath} and its journal, forcing saves to
+     * disk according to {@code fsyncPolicy}.
+     */
+    public JournalAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        this(new JsonAddressBookStorage(filePath, fsyncPolicy), fsyncPolicy);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}, forcing the
+     * journal to disk according to {@code fsyncPolicy}.
+     */
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage, FsyncPolicy fsyncPolicy) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(fsyncPolicy);
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.fsyncPolicy = fsyncPolicy;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            snapshotLength = Files.size(filePath);
+            snapshotChecksum = checksumOf(filePath);
+            journalLength = replayJournal(journalFilePath, persons);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + dpe.getMessage());
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        savedFilePath = filePath;
+        savedPersons = persons;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code persons}, if the journal continues from
+     * the current snapshot.
+     *
+     * @return the length of the valid part of the journal, or 0 if the journal should be started afresh.
+     * @throws IllegalValueException if the journal is corrupted.
+     */
+    private long replayJournal(Path journalFilePath, List<Person> persons) throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        long fileLength = Files.size(journalFilePath);
+        try (InputStream in = Files.newInputStream(journalFilePath);
+                DataInputStream journal = new DataInputStream(new BufferedInputStream(in))) {
+            if (fileLength < JOURNAL_HEADER_LENGTH || journal.readInt() != MAGIC
+                    || journal.readLong() != snapshotLength || journal.readLong() != snapshotChecksum) {
+                logger.info("Ignoring journal " + journalFilePath + " as it does not continue from the snapshot.");
+                return 0;
+            }
+
+            long offset = JOURNAL_HEADER_LENGTH;
+            while (offset < fileLength) {
+                long remaining = fileLength - offset;
+                if (remaining < RECORD_HEADER_LENGTH) {
+                    break;
+                }
+                int payloadLength = journal.readInt();
+                int payloadChecksum = journal.readInt();
+                if (payloadLength <= 0 || payloadLength > remaining - RECORD_HEADER_LENGTH) {
+                    break;
+                }
+                byte[] payload = new byte[payloadLength];
+                journal.readFully(payload);
+                long recordEnd = offset + RECORD_HEADER_LENGTH + payloadLength;
+                if ((int) checksumOf(payload) != payloadChecksum) {
+                    if (recordEnd == fileLength) {
+                        break;
+                    }
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, journalFilePath, offset));
+                }
+
+                List<Change> changes;
+                try {
+                    changes = decodeChanges(payload);
+                } catch (IOException | IllegalValueException e) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, journalFilePath, offset));
+                }
+                for (Change change : changes) {
+                    if (!change.applyTo(persons)) {
+                        throw new IllegalValueException(
+                                String.format(MESSAGE_CORRUPTED_JOURNAL, journalFilePath, offset));
+                    }
+                }
+                offset = recordEnd;
+            }
+
+            if (offset < fileLength) {
+                logger.warning("Discarding " + (fileLength - offset) + " bytes of incomplete record at the end of "
+                        + journalFilePath);
+            }
+            return offset;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        List<Change> changes = filePath.equals(savedFilePath) && Files.exists(filePath)
+                ? diff(savedPersons, persons)
+                : null;
+        if (changes == null || changes.size() > Math.max(persons.size(), 1)) {
+            compact(addressBook, persons, filePath);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        appendToJournal(getJournalFilePath(filePath), changes);
+        savedPersons = persons;
+        if (journalLength > Math.max(snapshotLength, MIN_COMPACTION_LENGTH)) {
+            compact(addressBook, persons, filePath);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to a new snapshot at {@code filePath} and starts its journal afresh.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, List<Person> persons, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        snapshotLength = Files.size(filePath);
+        snapshotChecksum = checksumOf(filePath);
+
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_LENGTH)
+                .putInt(MAGIC).putLong(snapshotLength).putLong(snapshotChecksum);
+        FileUtil.writeToFile(getJournalFilePath(filePath), header.array(), fsyncPolicy == FsyncPolicy.ALWAYS);
+        journalLength = JOURNAL_HEADER_LENGTH;
+
+        savedFilePath = filePath;
+        savedPersons = persons;
+    }
+
+    /**
+     * Appends a record of {@code changes} to the valid part of the journal at {@code journalFilePath}, in a single
+     * write. The changes are recorded together, so that they are either all read back or all discarded.
+     */
+    private void appendToJournal(Path journalFilePath, List<Change> changes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        if (journalLength == 0) {
+            out.writeInt(MAGIC);
+            out.writeLong(snapshotLength);
+            out.writeLong(snapshotChecksum);
+        }
+        byte[] payload = encodeChanges(changes);
+        out.writeInt(payload.length);
+        out.writeInt((int) checksumOf(payload));
+        out.write(payload);
+
+        try (FileChannel journal = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            // Drops any incomplete record left by an earlier crash, and any journal written for an older snapshot.
+            journal.truncate(journalLength);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            long position = journalLength;
+            while (buffer.hasRemaining()) {
+                position += journal.write(buffer, position);
+            }
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                journal.force(false);
+            }
+        }
+        journalLength += bytes.size();
+    }
+
+    @Override
+    public synchronized void syncAddressBook() throws IOException {
+        snapshotStorage.syncAddressBook();
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            FileUtil.forceToDisk(getJournalFilePath(filePath));
+        }
+    }
+
+    /**
+     * Returns the changes that turn {@code oldPersons} into {@code newPersons}, or null if the change is not one that
+     * appending, editing and deleting persons in place can make, in which case the address book should be compacted.
+     */
+    static List<Change> diff(List<Person> oldPersons, List<Person> newPersons) {
+        List<Change> changes = new ArrayList<>();
+        if (newPersons.isEmpty()) {
+            if (!oldPersons.isEmpty()) {
+                changes.add(Change.clear());
+            }
+            return changes;
+        }
+
+        int prefixLength = 0;
+        int maxCommonLength = Math.min(oldPersons.size(), newPersons.size());
+        while (prefixLength < maxCommonLength
+                && isSamePerson(oldPersons.get(prefixLength), newPersons.get(prefixLength))) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < maxCommonLength - prefixLength
+                && isSamePerson(oldPersons.get(oldPersons.size() - 1 - suffixLength),
+                        newPersons.get(newPersons.size() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+
+        List<Person> oldMiddle = oldPersons.subList(prefixLength, oldPersons.size() - suffixLength);
+        List<Person> newMiddle = newPersons.subList(prefixLength, newPersons.size() - suffixLength);
+        Set<Person> oldMiddleSet = new HashSet<>(oldMiddle);
+        Set<Person> newMiddleSet = new HashSet<>(newMiddle);
+
+        int position = prefixLength;
+        int newIndex = 0;
+        for (Person oldPerson : oldMiddle) {
+            Person newPerson = newIndex < newMiddle.size() ? newMiddle.get(newIndex) : null;
+            if (newPerson != null && isSamePerson(oldPerson, newPerson)) {
+                position++;
+                newIndex++;
+            } else if (newMiddleSet.contains(oldPerson)) {
+                // The person was kept but moved, or a person was inserted before it.
+                return null;
+            } else if (newPerson != null && !oldMiddleSet.contains(newPerson)) {
+                changes.add(Change.edit(position, newPerson));
+                position++;
+                newIndex++;
+            } else {
+                changes.add(Change.delete(position));
+            }
+        }
+
+        if (newIndex < newMiddle.size() && suffixLength > 0) {
+            // New persons can only be appended at the end.
+            return null;
+        }
+        for (Person newPerson : newMiddle.subList(newIndex, newMiddle.size())) {
+            changes.add(Change.add(newPerson));
+        }
+        return changes;
+    }
+
+    private static boolean isSamePerson(Person oldPerson, Person newPerson) {
+        return oldPerson == newPerson || oldPerson.equals(newPerson);
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static byte[] encodeChanges(List<Change> changes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(changes.size());
+        for (Change change : changes) {
+            change.encode(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<Change> decodeChanges(byte[] payload) throws IOException, IllegalValueException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int count = in.readInt();
+        if (count < 0 || count > payload.length) {
+            throw new IOException("Invalid journal change count " + count);
+        }
+        List<Change> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            changes.add(Change.decode(in));
+        }
+        if (in.available() > 0) {
+            throw new IOException("Unexpected data after journal changes");
+        }
+        return changes;
+    }
+
+    /**
+     * A change to the list of persons, as recorded in the journal.
+     */
+    static class Change {
+
+        private enum Type { ADD, EDIT, DELETE, CLEAR }
+
+        private final Type type;
+        private final int index;
+        private final Person person;
+
+        private Change(Type type, int index, Person person) {
+            this.type = type;
+            this.index = index;
+            this.person = person;
+        }
+
+        static Change add(Person person) {
+            return new Change(Type.ADD, -1, person);
+        }
+
+        static Change edit(int index, Person person) {
+            return new Change(Type.EDIT, index, person);
+        }
+
+        static Change delete(int index) {
+            return new Change(Type.DELETE, index, null);
+        }
+
+        static Change clear() {
+            return new Change(Type.CLEAR, -1, null);
+        }
+
+        /**
+         * Applies this change to {@code persons}.
+         * Returns false if the change does not fit {@code persons}.
+         */
+        boolean applyTo(List<Person> persons) {
+            switch (type) {
+            case ADD:
+                persons.add(person);
+                return true;
+            case EDIT:
+                if (index < 0 || index >= persons.size()) {
+                    return false;
+                }
+                persons.set(index, person);
+                return true;
+            case DELETE:
+                if (index < 0 || index >= persons.size()) {
+                    return false;
+                }
+                persons.remove(index);
+                return true;
+            case CLEAR:
+                persons.clear();
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        void encode(DataOutputStream out) throws IOException {
+            out.writeByte(type.ordinal());
+            if (type == Type.EDIT || type == Type.DELETE) {
+                out.writeInt(index);
+            }
+            if (person != null) {
+                byte[] json = JsonUtil.toJsonString(new JsonAdaptedPerson(person)).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(json.length);
+                out.write(json);
+            }
+        }
+
+        static Change decode(DataInputStream in) throws IOException, IllegalValueException {
+            int typeOrdinal = in.readUnsignedByte();
+            if (typeOrdinal >= Type.values().length) {
+                throw new IOException("Unknown journal record type " + typeOrdinal);
+            }
+            Type type = Type.values()[typeOrdinal];
+            int index = type == Type.EDIT || type == Type.DELETE ? in.readInt() : -1;
+            Person person = null;
+            if (type == Type.ADD || type == Type.EDIT) {
+                int jsonLength = in.readInt();
+                if (jsonLength < 0 || jsonLength > in.available()) {
+                    throw new IOException("Invalid journal record length " + jsonLength);
+                }
+                byte[] json = new byte[jsonLength];
+                in.readFully(json);
+                person = JsonUtil.fromJsonString(new String(json, StandardCharsets.UTF_8), JsonAdaptedPerson.class)
+                        .toModelType();
+            }
+            return new Change(type, index, person);
+        }
+    }
+}
@@ -23,7 +23,7 @@ import seedu.address.model.tag.Tag;
 /**
  * Jackson-friendly version of {@link Person}.
  */
-class JsonAdaptedPerson {
+public class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
@@ -72,6 +72,38 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    String getName() {
+        return name;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getYear() {
+        return year;
+    }
+
+    String getMajor() {
+        return major;
+    }
+
+    String getHousing() {
+        return housing;
+    }
+
+    String getLink() {
+        return link;
+    }
+
+    List<JsonAdaptedTag> getTags() {
+        return tags;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -3,16 +3,27 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -21,10 +32,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String PERSONS_FIELD = "persons";
+
     private Path filePath;
+    private final FsyncPolicy fsyncPolicy;
 
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath},
+     * forcing every save to disk, as the app does by default.
+     */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath}, forcing saves to disk according to
+     * {@code fsyncPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
         this.filePath = filePath;
+        this.fsyncPolicy = fsyncPolicy;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +66,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed, so only the person being read is held in its JSON form at any time.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +74,78 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(readAddressBook(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the address book in {@code parser}, converting each person to the model as soon as it is read.
+     * The first data constraint violation is only thrown after the whole file has been read, so that malformed JSON
+     * anywhere in the file is reported in its place, as when the file is read into a
+     * {@code JsonSerializableAddressBook}.
+     *
+     * @throws IOException if the file is not a valid JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = null;
+        IllegalValueException firstViolation = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw JsonMappingException.from(parser, "Expected an array of persons");
+            }
+
+            // As with Jackson's binding, only the last persons array counts.
+            addressBook = new AddressBook();
+            firstViolation = null;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+                if (firstViolation != null) {
+                    continue;
+                }
+                try {
+                    Person person = jsonAdaptedPerson.toModelType();
+                    if (addressBook.hasPerson(person)) {
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    addressBook.addPerson(person);
+                } catch (IllegalValueException ive) {
+                    firstViolation = ive;
+                }
+            }
+        }
+
+        if (addressBook == null) {
+            throw JsonMappingException.from(parser, "Missing persons array");
+        }
+        if (firstViolation != null) {
+            throw firstViolation;
+        }
+        return addressBook;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +160,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath,
+                fsyncPolicy == FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Saves the persons taken from {@code persons} as an address book at {@code filePath}. Each person is written as
+     * soon as it is taken, so that the persons need not all be held in memory at once, as when generating a large
+     * address book. The persons are not checked for duplicates.
+     */
+    public void savePersons(Iterator<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                while (persons.hasNext()) {
+                    generator.writeObject(new JsonAdaptedPerson(persons.next()));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, fsyncPolicy == FsyncPolicy.ALWAYS);
+    }
+
+    @Override
+    public void syncAddressBook() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            FileUtil.forceToDisk(filePath);
+        }
     }
 
 }
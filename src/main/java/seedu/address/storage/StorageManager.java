@@ -75,4 +75,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void syncAddressBook() throws IOException {
+        logger.fine("Attempting to sync data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.syncAddressBook();
+    }
+
 }
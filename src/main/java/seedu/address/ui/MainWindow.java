@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +16,11 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandQueue;
+import seedu.address.logic.IncrementalSearch;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -25,14 +30,28 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    /** How long to wait for submitted commands to finish when the window is stopped. */
+    private static final long STOP_TIMEOUT_MILLIS = 10000;
+
+    /** How long the command text must stay unchanged before the persons it would find are previewed. */
+    private static final long PREVIEW_DEBOUNCE_MILLIS = 50;
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue;
+    private IncrementalSearch incrementalSearch;
+
+    /** Number of commands submitted whose results have not been shown yet. */
+    private int pendingCommandCount = 0;
+    /** The latest preview of the persons that the command being typed would find. */
+    private CompletableFuture<Optional<List<Person>>> latestPreview;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -59,6 +78,8 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandQueue = new CommandQueue(logic);
+        this.incrementalSearch = new IncrementalSearch(logic, PREVIEW_DEBOUNCE_MILLIS);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -110,17 +131,19 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(Platform::runLater));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
     }
 
     /**
@@ -151,6 +174,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Waits for the submitted commands to finish. Their results are not shown.
+     */
+    void stop() {
+        commandQueue.shutdown(STOP_TIMEOUT_MILLIS);
+        incrementalSearch.shutdown();
+    }
+
     /**
      * Closes the application.
      */
@@ -168,13 +199,22 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to run in the background, after the commands submitted before it, and returns its result.
+     * The result is shown once the command has run, and the returned future is completed after that, on the JavaFX
+     * application thread.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        setPendingCommandCount(pendingCommandCount + 1);
+        return commandQueue.submit(commandText).whenCompleteAsync((commandResult, error) -> {
+            setPendingCommandCount(pendingCommandCount - 1);
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -185,12 +225,26 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
+        }, Platform::runLater);
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+    /**
+     * Shows the persons that the command being typed would find, if it is a {@code find} or {@code findMod} command,
+     * or the filtered person list otherwise. The search runs in the background, and a preview that is outdated by the
+     * time it is ready is dropped.
+     */
+    private void previewCommand(String commandText) {
+        CompletableFuture<Optional<List<Person>>> preview = incrementalSearch.search(commandText);
+        latestPreview = preview;
+        preview.thenAcceptAsync(persons -> {
+            if (preview == latestPreview) {
+                personListPanel.showPreview(persons);
+            }
+        }, Platform::runLater);
+    }
+
+    private void setPendingCommandCount(int pendingCommandCount) {
+        this.pendingCommandCount = pendingCommandCount;
+        statusBarFooter.setBusy(pendingCommandCount > 0);
     }
 }
@@ -1,8 +1,10 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Hyperlink;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -25,7 +27,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -50,50 +52,81 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Hyperlink link;
 
+    /**
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+        link.setOnAction(event -> {
+            if (person != null && person.getLink() != null) {
+                Clipboard.copyToClipboard(person.getLink().value);
+                PopupMessage.showMessage(cardPane, "Link copied!");
+            }
+        });
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} at {@code displayedIndex} in place of the person displayed before, reusing the
+     * existing nodes of this card.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
 
         // For non-mandatory fields don't show if is null.
         // Managed: https://stackoverflow.com/a/28559958
-        phone.setText(person.getPhone() != null ? person.getPhone().value : "");
-        phone.setVisible(person.getPhone() != null);
-        phone.setManaged(person.getPhone() != null);
-
-        year.setText(person.getYear() != null ? String.valueOf(person.getYear()) : "");
-        year.setVisible(person.getYear() != null);
-        year.setManaged(person.getYear() != null);
+        setOptionalText(phone, person.getPhone() != null ? person.getPhone().value : null);
+        setOptionalText(year, person.getYear() != null ? String.valueOf(person.getYear()) : null);
+        setOptionalText(major, person.getMajor() != null ? person.getMajor().value : null);
+        setOptionalText(housing, person.getHousing() != null ? person.getHousing().value : null);
+        setOptionalText(email, person.getEmail() != null ? person.getEmail().value : null);
 
-        major.setText(person.getMajor() != null ? person.getMajor().value : "");
-        major.setVisible(person.getMajor() != null);
-        major.setManaged(person.getMajor() != null);
-
-        housing.setText(person.getHousing() != null ? person.getHousing().value : "");
-        housing.setVisible(person.getHousing() != null);
-        housing.setManaged(person.getHousing() != null);
+        setChips(tags, person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+        setChips(modules, person.getModules().stream()
+                .map(module -> module.value)
+                .sorted()
+                .collect(Collectors.toList()));
+        link.setDisable(person.getLink() == null);
+    }
 
-        email.setText(person.getEmail() != null ? person.getEmail().value : "");
-        email.setVisible(person.getEmail() != null);
-        email.setManaged(person.getEmail() != null);
+    private static void setOptionalText(Label label, String text) {
+        label.setText(text != null ? text : "");
+        label.setVisible(text != null);
+        label.setManaged(text != null);
+    }
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        person.getModules().stream()
-                .sorted(Comparator.comparing(module -> module.value))
-                .forEach(module -> modules.getChildren().add(new Label(module.value)));
-        if (person.getLink() == null) {
-            link.setDisable(true);
-        } else {
-            link.setOnAction(event -> {
-                Clipboard.copyToClipboard(person.getLink().value);
-                PopupMessage.showMessage(cardPane, "Link copied!");
-            });
+    /**
+     * Shows a chip in {@code pane} for each of {@code texts}, in order.
+     * Chips left over from a previous person are relabelled, and hidden rather than removed when there are too many,
+     * so that they can be shown again for the next person without being recreated.
+     */
+    private static void setChips(FlowPane pane, List<String> texts) {
+        List<Node> chips = pane.getChildren();
+        for (int i = chips.size(); i < texts.size(); i++) {
+            chips.add(new Label());
+        }
+        for (int i = 0; i < chips.size(); i++) {
+            Label chip = (Label) chips.get(i);
+            boolean isShown = i < texts.size();
+            chip.setText(isShown ? texts.get(i) : "");
+            chip.setVisible(isShown);
+            chip.setManaged(isShown);
         }
     }
 }
@@ -1,9 +1,14 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
@@ -15,34 +20,100 @@ import seedu.address.model.person.Person;
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+    private static final long UPDATE_RATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final Runnable frameCounter = this::countFrame;
+    private final ObservableList<Person> personList;
 
     @FXML
     private ListView<Person> personListView;
 
+    // Frames drawn and cells updated since intervalStartNanos, which are logged while the list is scrolled.
+    private long intervalStartNanos = System.nanoTime();
+    private int frameCount;
+    private int cellUpdateCount;
+
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
      */
     public PersonListPanel(ObservableList<Person> personList) {
         super(FXML);
+        this.personList = personList;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.removePostLayoutPulseListener(frameCounter);
+            }
+            if (newScene != null) {
+                newScene.addPostLayoutPulseListener(frameCounter);
+            }
+        });
+    }
+
+    /**
+     * Shows {@code preview} in place of the person list, or the person list again if {@code preview} is empty.
+     * The preview is not updated when the address book changes.
+     */
+    public void showPreview(Optional<List<Person>> preview) {
+        ObservableList<Person> items = preview
+                .map(persons -> FXCollections.unmodifiableObservableList(FXCollections.observableList(persons)))
+                .orElse(personList);
+        if (personListView.getItems() != items) {
+            personListView.setItems(items);
+        }
+    }
+
+    /**
+     * Counts a frame drawn by the {@link Scene} of this panel, and logs the rates of frames and cell updates once
+     * every interval in which cells were updated, such as while scrolling.
+     */
+    private void countFrame() {
+        frameCount++;
+        long now = System.nanoTime();
+        long elapsedNanos = now - intervalStartNanos;
+        if (elapsedNanos < UPDATE_RATE_INTERVAL_NANOS) {
+            return;
+        }
+
+        if (cellUpdateCount > 0) {
+            double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            logger.fine(String.format("Person list: %.1f frames/s, %.1f cell updates/s",
+                    frameCount / elapsedSeconds, cellUpdateCount / elapsedSeconds));
+        }
+        intervalStartNanos = now;
+        frameCount = 0;
+        cellUpdateCount = 0;
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell keeps one {@code PersonCard} for its whole life, and shows each new person in it.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+        private int displayedIndex;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
+            cellUpdateCount++;
 
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                return;
+            }
+
+            if (personCard == null) {
+                personCard = new PersonCard();
+            }
+            if (personCard.getPerson() != person || displayedIndex != getIndex() + 1) {
+                displayedIndex = getIndex() + 1;
+                personCard.setPerson(person, displayedIndex);
             }
+            setGraphic(personCard.getRoot());
         }
     }
 
@@ -17,12 +17,23 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label busyStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        setBusy(false);
+    }
+
+    /**
+     * Shows or hides the indicator that commands are running.
+     */
+    public void setBusy(boolean isBusy) {
+        busyStatus.setVisible(isBusy);
     }
 
 }
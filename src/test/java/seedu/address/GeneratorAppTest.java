@@ -0,0 +1,39 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.PersonGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class GeneratorAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void generate_missingFile_personsWritten() throws Exception {
+        Path outputPath = temporaryFolder.resolve("data").resolve("generated.json");
+        GeneratorApp.generate(1000, 42, outputPath);
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(new PersonGenerator(42).generate(1000));
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(outputPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void generate_existingFile_throwsFileAlreadyExistsException() throws Exception {
+        Path outputPath = temporaryFolder.resolve("existing.json");
+        FileUtil.writeToFile(outputPath, "existing data");
+        assertThrows(FileAlreadyExistsException.class, () -> GeneratorApp.generate(10, 42, outputPath));
+        assertEquals("existing data", FileUtil.readFromFile(outputPath));
+    }
+}
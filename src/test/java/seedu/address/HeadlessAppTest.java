@@ -0,0 +1,84 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_validCommands_printsResults() {
+        assertTrue(run(false, PersonUtil.getAddCommand(AMY), "", ListCommand.COMMAND_WORD));
+
+        assertTrue(model.hasPerson(AMY));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)) + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), output.toString());
+    }
+
+    @Test
+    public void run_invalidCommand_printsErrorAndContinues() {
+        assertFalse(run(false, "unknownCommand", PersonUtil.getAddCommand(AMY)));
+
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(output.toString().startsWith(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator()));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() {
+        assertTrue(run(false, ExitCommand.COMMAND_WORD, PersonUtil.getAddCommand(AMY)));
+
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void run_promptShown_printsPromptBeforeEachCommand() {
+        assertTrue(run(true, ListCommand.COMMAND_WORD));
+
+        assertEquals("> " + ListCommand.MESSAGE_SUCCESS + System.lineSeparator() + "> ", output.toString());
+    }
+
+    private boolean run(boolean isPromptShown, String... commands) {
+        BufferedReader input = new BufferedReader(new StringReader(String.join("\n", commands)));
+        return new HeadlessApp(logic, input, new PrintStream(output), isPromptShown).run();
+    }
+}
@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", maxSaveDelayMillis=" + config.getMaxSaveDelayMillis()
+                + ", fsyncPolicy=" + config.getFsyncPolicy()
+                + ", maxUndoHistoryBytes=" + config.getMaxUndoHistoryBytes()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", metricsIntervalSeconds=" + config.getMetricsIntervalSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
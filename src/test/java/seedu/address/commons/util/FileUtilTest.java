@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,67 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new", true);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_contentWriterFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("failed midway");
+        }, false));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_existingFile_permissionsKept() throws Exception {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("r--r-----"));
+        FileUtil.writeToFile(file, "new", true);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(PosixFilePermissions.fromString("r--r-----"), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFile_newFile_defaultPermissions() throws Exception {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path file = testFolder.resolve("file.txt");
+        Path fileWrittenInPlace = Files.createFile(testFolder.resolve("other.txt"));
+        FileUtil.writeToFile(file, "content");
+
+        assertEquals(Files.getPosixFilePermissions(fileWrittenInPlace), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFile_missingDirectory_throwsIoException() {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, "content"));
+    }
+
+    @Test
+    public void forceToDisk_missingFile_nothingCreated() throws Exception {
+        Path file = testFolder.resolve("missing.txt");
+        FileUtil.forceToDisk(file);
+        assertFalse(Files.exists(file));
+    }
+
 }
@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ObservableListMirrorTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ObservableListMirror<>(null, tasks::add));
+        assertThrows(NullPointerException.class, () -> new ObservableListMirror<>(source, null));
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        ObservableList<String> mirror = new ObservableListMirror<>(source, tasks::add).asUnmodifiableObservableList();
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void sourceChanged_mirrorChangedOnlyByExecutor() {
+        ObservableList<String> mirror = new ObservableListMirror<>(source, tasks::add).asUnmodifiableObservableList();
+
+        source.add("c");
+        assertEquals(Arrays.asList("a", "b"), mirror);
+        assertEquals(1, tasks.size());
+
+        runTasks();
+        assertEquals(Arrays.asList("a", "b", "c"), mirror);
+    }
+
+    @Test
+    public void sourceChangedRepeatedly_changesAppliedTogether() {
+        ObservableList<String> mirror = new ObservableListMirror<>(source, tasks::add).asUnmodifiableObservableList();
+
+        source.add("c");
+        source.remove("a");
+        source.set(0, "d");
+        assertEquals(1, tasks.size());
+
+        runTasks();
+        assertEquals(Arrays.asList("d", "c"), mirror);
+
+        source.add("e");
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(Arrays.asList("d", "c", "e"), mirror);
+    }
+
+    @Test
+    public void sourceChanged_onlyChangedElementsReplayed() {
+        ObservableList<String> mirror = new ObservableListMirror<>(source, tasks::add).asUnmodifiableObservableList();
+        List<String> mirrorChanges = recordChanges(mirror);
+
+        source.set(1, "x");
+        source.add(0, "y");
+        source.remove("a");
+        source.addAll("c", "d");
+        runTasks();
+
+        assertEquals(Arrays.asList("y", "x", "c", "d"), mirror);
+        assertEquals(Arrays.asList("replaced [b] at 1 with [x]", "replaced [] at 0 with [y]",
+                "replaced [a] at 1 with []", "replaced [] at 2 with [c, d]"), mirrorChanges);
+    }
+
+    @Test
+    public void sourceChangedManyTimes_contentsReplayedAtOnce() {
+        ObservableList<String> mirror = new ObservableListMirror<>(source, tasks::add).asUnmodifiableObservableList();
+        List<String> mirrorChanges = recordChanges(mirror);
+
+        for (int i = 0; i <= ObservableListMirror.MAX_PENDING_EDITS; i++) {
+            source.add(0, String.valueOf(i));
+        }
+        source.remove("b");
+        assertEquals(1, tasks.size());
+        runTasks();
+
+        assertEquals(source, mirror);
+        // the changes that piled up are replaced by the contents, and the one after them is replayed
+        assertEquals(2, mirrorChanges.size());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = new ObservableListMirror<>(source, tasks::add).asUnmodifiableObservableList();
+        assertThrows(UnsupportedOperationException.class, () -> mirror.remove(0));
+    }
+
+    private static List<String> recordChanges(ObservableList<String> list) {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add("replaced " + change.getRemoved() + " at " + change.getFrom() + " with "
+                        + change.getAddedSubList());
+            }
+        });
+        return changes;
+    }
+
+    private void runTasks() {
+        List<Runnable> tasksToRun = new ArrayList<>(tasks);
+        tasks.clear();
+        tasksToRun.forEach(Runnable::run);
+    }
+}
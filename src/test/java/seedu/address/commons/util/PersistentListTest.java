@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentList.empty());
+        assertEquals(Collections.emptyList(), PersistentList.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Integer> elements = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
+        assertEquals(elements, PersistentList.of(elements));
+    }
+
+    @Test
+    public void changes_earlierVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> inserted = original.plus(0, "z");
+        PersistentList<String> replaced = original.with(1, "y");
+        PersistentList<String> removed = original.minus(1);
+        PersistentList<String> appendedAll = original.plusAll(Arrays.asList("e", "f"));
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended);
+        assertEquals(Arrays.asList("z", "a", "b", "c"), inserted);
+        assertEquals(Arrays.asList("a", "y", "c"), replaced);
+        assertEquals(Arrays.asList("a", "c"), removed);
+        assertEquals(Arrays.asList("a", "b", "c", "e", "f"), appendedAll);
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(2, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(17);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(expected, new ArrayList<>(actual));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_consistentWithEqualsIgnoreCase() {
+        assertEquals(StringUtil.foldCase("CS2103T"), StringUtil.foldCase("cs2103t"));
+        assertEquals(StringUtil.foldCase("Alice Pauline"), StringUtil.foldCase("aLICE pAULINE"));
+        assertEquals("", StringUtil.foldCase(""));
+
+        // Kelvin sign is equal to 'k' ignoring case
+        assertTrue("\u212A".equalsIgnoreCase("k"));
+        assertEquals(StringUtil.foldCase("\u212A"), StringUtil.foldCase("K"));
+
+        assertFalse(StringUtil.foldCase("CS2103").equals(StringUtil.foldCase("CS2103T")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
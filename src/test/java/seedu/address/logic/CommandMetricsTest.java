@@ -0,0 +1,77 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.LatencyHistogram;
+import seedu.address.logic.CommandMetrics.CommandStats;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindModCommand;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final LatencyHistogram saveLatency = new LatencyHistogram();
+    private final CommandMetrics metrics = new CommandMetrics(saveLatency);
+
+    @Test
+    public void getCommandName() {
+        assertEquals("add", CommandMetrics.getCommandName(AddCommand.class));
+        assertEquals("findMod", CommandMetrics.getCommandName(FindModCommand.class));
+    }
+
+    @Test
+    public void getStats_sameClass_sameStats() {
+        assertSame(metrics.getStats(AddCommand.class), metrics.getStats(AddCommand.class));
+    }
+
+    @Test
+    public void getAllStats_commandsRecorded_orderedByNameWithInvalidLast() {
+        metrics.getInvalidCommandStats().record(Phase.PARSE, 100);
+        metrics.getStats(DeleteCommand.class).record(Phase.PARSE, 100);
+        metrics.getStats(AddCommand.class).record(Phase.PARSE, 100);
+        metrics.getStats(AddCommand.class).record(Phase.PARSE, 100);
+
+        List<String> names = metrics.getAllStats().stream().map(CommandStats::getName).collect(Collectors.toList());
+        assertEquals(List.of("add", "delete", CommandMetrics.INVALID_COMMAND_NAME), names);
+        assertEquals(4, metrics.getCommandCount());
+    }
+
+    @Test
+    public void formatReport_commandsRecorded_showsEachCommandAndSaves() {
+        CommandStats stats = metrics.getStats(AddCommand.class);
+        stats.record(Phase.PARSE, 1_000_000);
+        stats.record(Phase.EXECUTE, 2_000_000);
+        saveLatency.record(5_000_000);
+
+        String report = metrics.formatReport();
+        assertTrue(report.contains("add (1): parse p50 1.00"), report);
+        assertTrue(report.contains("execute p50 2.00"), report);
+        assertTrue(report.contains(String.format(CommandMetrics.MESSAGE_REPORT_SAVES, 1)), report);
+    }
+
+    @Test
+    public void saveReport_commandsRecorded_writesJson() throws Exception {
+        metrics.getStats(AddCommand.class).record(Phase.EXECUTE, 3_000_000);
+        Path filePath = temporaryFolder.resolve("metrics.json");
+        metrics.saveReport(filePath);
+
+        String json = Files.readString(filePath);
+        assertTrue(json.contains("\"add\""), json);
+        assertTrue(json.contains("\"p99\""), json);
+        assertTrue(json.contains("\"saves\""), json);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class CommandQueueTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private CommandQueue commandQueue;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        commandQueue = new CommandQueue(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void submit_manyCommands_runAndCompleteInSubmissionOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        List<Integer> completionOrder = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            int index = i;
+            results.add(commandQueue.submit(PersonUtil.getAddCommand(person))
+                    .whenComplete((commandResult, error) -> completionOrder.add(index)));
+        }
+        for (CompletableFuture<CommandResult> result : results) {
+            result.get();
+        }
+
+        assertEquals(persons, model.getAddressBook().getPersonList());
+        List<Integer> expectedOrder = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            expectedOrder.add(i);
+        }
+        assertEquals(expectedOrder, completionOrder);
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = commandQueue.submit("uicfhmowqewca");
+        try {
+            result.get();
+            throw new AssertionError("The command should have failed.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+
+        // later commands still run
+        commandQueue.submit("list").get();
+    }
+
+    @Test
+    public void shutdown_commandsSubmitted_waitsForCommands() {
+        CompletableFuture<CommandResult> result =
+                commandQueue.submit(PersonUtil.getAddCommand(new PersonBuilder().build()));
+        commandQueue.shutdown(10000);
+        assertTrue(result.isDone());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+}
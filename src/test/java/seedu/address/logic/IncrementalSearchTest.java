@@ -0,0 +1,171 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class IncrementalSearchTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private IncrementalSearch incrementalSearch;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        incrementalSearch = new IncrementalSearch(new LogicManager(model, storage), 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        incrementalSearch.shutdown();
+    }
+
+    @Test
+    public void search_notFindCommand_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(), incrementalSearch.search("").get());
+        assertEquals(Optional.empty(), incrementalSearch.search("list").get());
+        assertEquals(Optional.empty(), incrementalSearch.search("finder al").get());
+        assertEquals(Optional.empty(), incrementalSearch.search("delete 1").get());
+
+        // no keywords yet
+        assertEquals(Optional.empty(), incrementalSearch.search("find").get());
+        assertEquals(Optional.empty(), incrementalSearch.search("  findMod   ").get());
+    }
+
+    @Test
+    public void search_findModInvalidModuleCode_returnsEmpty() throws Exception {
+        // findMod rejects these, so there is nothing to preview
+        assertEquals(Optional.empty(), incrementalSearch.search("findMod cs32").get());
+        assertEquals(Optional.empty(), incrementalSearch.search("findMod CS3230 x").get());
+    }
+
+    @Test
+    public void search_find_returnsPersonsWithNameWordEqualToKeyword() throws Exception {
+        assertEquals(List.of(BENSON, DANIEL), search("find meier"));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), search("  find  MEIER  alice "));
+        assertEquals(List.of(ALICE), search("find Pauline"));
+
+        // only the start of a word -> not found
+        assertEquals(List.of(), search("find me"));
+        assertEquals(List.of(), search("find auline"));
+    }
+
+    @Test
+    public void search_findMod_returnsPersonsWithModuleEqualToKeyword() throws Exception {
+        assertEquals(List.of(FIONA), search("findMod cs3230"));
+        assertEquals(List.of(DANIEL), search("findMod CS2107(TA)"));
+        assertEquals(List.of(), search("findMod CS2107"));
+    }
+
+    @Test
+    public void search_randomCommands_sameAsCommand() throws Exception {
+        String[] fragments = {"find", "findMod", " ", "  ", "\t", "mei", "Meier", "er", "alice", "A", "Kurz", "cs",
+            "CS2103T", "cs3230", "2107", "(TA)", "CS2107", "x"};
+        Random random = new Random(2103);
+        AddressBookParser parser = new AddressBookParser();
+        for (int run = 0; run < 2000; run++) {
+            StringBuilder commandText = new StringBuilder(random.nextBoolean() ? "find " : "findMod ");
+            int fragmentCount = random.nextInt(5);
+            for (int i = 0; i < fragmentCount; i++) {
+                commandText.append(fragments[random.nextInt(fragments.length)]);
+            }
+
+            Optional<List<Person>> expected;
+            Model commandModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+            try {
+                parser.parseCommand(commandText.toString()).execute(commandModel);
+                expected = Optional.of(List.copyOf(commandModel.getFilteredPersonList()));
+            } catch (ParseException pe) {
+                expected = Optional.empty();
+            }
+            assertEquals(expected, incrementalSearch.search(commandText.toString()).get(),
+                    "\"" + commandText + "\"");
+        }
+    }
+
+    @Test
+    public void search_longerKeyword_testsOnlyPersonsWithWordStartingWithPreviousKeyword() throws Exception {
+        int personCount = model.getAddressBook().getPersonList().size();
+        assertEquals(List.of(), search("find m"));
+        assertEquals(personCount, incrementalSearch.getTestedCount());
+
+        // Benson Meier, Daniel Meier and Elle Meyer have a word starting with "m"
+        assertEquals(List.of(), search("find mei"));
+        assertEquals(3, incrementalSearch.getTestedCount());
+        assertEquals(List.of(BENSON, DANIEL), search("find meier"));
+        assertEquals(2, incrementalSearch.getTestedCount());
+
+        // shorter, other or more keywords search all persons again
+        assertEquals(List.of(), search("find me"));
+        assertEquals(personCount, incrementalSearch.getTestedCount());
+        assertEquals(List.of(ELLE), search("find meyer mei"));
+        assertEquals(personCount, incrementalSearch.getTestedCount());
+        assertEquals(List.of(FIONA), search("findMod CS3230"));
+        assertEquals(personCount, incrementalSearch.getTestedCount());
+    }
+
+    @Test
+    public void search_addressBookChanged_searchesAllPersonsAgain() throws Exception {
+        assertEquals(List.of(), search("find mei"));
+
+        Person meiling = new PersonBuilder().withName("Mei Ling").build();
+        model.addPerson(meiling);
+        assertEquals(List.of(meiling), search("find mei"));
+        assertEquals(model.getAddressBook().getPersonList().size(), incrementalSearch.getTestedCount());
+    }
+
+    @Test
+    public void search_beforePreviousSearchRuns_cancelsPreviousSearch() throws Exception {
+        IncrementalSearch slowSearch = new IncrementalSearch(new LogicManager(model,
+                new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("slow.json")),
+                        new JsonUserPrefsStorage(temporaryFolder.resolve("slowPrefs.json")))), 200);
+        try {
+            CompletableFuture<Optional<List<Person>>> first = slowSearch.search("find m");
+            CompletableFuture<Optional<List<Person>>> second = slowSearch.search("find meier");
+            assertTrue(first.isCancelled());
+            assertEquals(Optional.of(List.of(BENSON, DANIEL)), second.get());
+
+            CompletableFuture<Optional<List<Person>>> third = slowSearch.search("find alice");
+            assertEquals(Optional.empty(), slowSearch.search("list").get());
+            assertTrue(third.isCancelled());
+        } finally {
+            slowSearch.shutdown();
+        }
+    }
+
+    private List<Person> search(String commandText) throws Exception {
+        return incrementalSearch.search(commandText).get().get();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -15,12 +17,15 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.CommandMetrics.CommandStats;
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
@@ -73,6 +78,38 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_mutatingCommand_addressBookSaved() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + YEAR_DESC_AMY + MAJOR_DESC_AMY + HOUSING_DESC_AMY + LINK_DESC_AMY);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_commands_latenciesRecorded() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + YEAR_DESC_AMY + MAJOR_DESC_AMY + HOUSING_DESC_AMY + LINK_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandMetrics metrics = logic.getCommandMetrics();
+        CommandStats addStats = metrics.getStats(AddCommand.class);
+        assertEquals(1, addStats.getLatency(Phase.PARSE).getCount());
+        assertEquals(1, addStats.getLatency(Phase.EXECUTE).getCount());
+        assertEquals(1, addStats.getLatency(Phase.SAVE).getCount());
+        CommandStats listStats = metrics.getStats(ListCommand.class);
+        assertEquals(1, listStats.getLatency(Phase.EXECUTE).getCount());
+        assertEquals(0, listStats.getLatency(Phase.SAVE).getCount());
+        assertEquals(1, metrics.getInvalidCommandStats().getCount());
+        assertEquals(3, metrics.getCommandCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -0,0 +1,156 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Path scriptPath = writeScript("# add two persons, then delete the first typical person",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                PersonUtil.getAddCommand(BOB),
+                DeleteCommand.COMMAND_WORD + " 1");
+
+        CommandResult result = new RunCommand(scriptPath).execute(model);
+
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+        assertFalse(model.hasPerson(ALICE));
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 3 commands from " + scriptPath));
+        assertTrue(result.getFeedbackToUser().contains(String.format(RunCommand.MESSAGE_COMMAND_RESULT, 5,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE)))));
+    }
+
+    @Test
+    public void execute_validScript_undoneAtOnce() throws Exception {
+        Path scriptPath = writeScript(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB),
+                UndoCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD + " 1");
+        Person personBeforeScript = new PersonBuilder().withName("Before Script").build();
+        model.addPerson(personBeforeScript);
+        model.commitAddressBook();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        new RunCommand(scriptPath).execute(model);
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+        assertFalse(model.hasPerson(ALICE));
+
+        // the whole script is undone, and nothing before it
+        model.undoAddressBook();
+        assertEquals(expectedModel, model);
+        model.redoAddressBook();
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_emptyScript_addressBookUnchanged() throws Exception {
+        Path scriptPath = writeScript("# nothing to run");
+
+        CommandResult result = new RunCommand(scriptPath).execute(model);
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 0 commands"));
+    }
+
+    @Test
+    public void execute_failingCommand_noCommandsRun() throws Exception {
+        Path scriptPath = writeScript(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(AMY));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandFailure(new RunCommand(scriptPath), model, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2,
+                AddCommand.MESSAGE_DUPLICATE_PERSON, scriptPath));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_unparsableCommand_noCommandsRun() throws Exception {
+        Path scriptPath = writeScript(PersonUtil.getAddCommand(AMY), "", "unknownCommand");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandFailure(new RunCommand(scriptPath), model, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 3,
+                Messages.MESSAGE_UNKNOWN_COMMAND, scriptPath));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_nestedRun_throwsCommandException() throws Exception {
+        Path scriptPath = writeScript(RunCommand.COMMAND_WORD + " other.txt");
+
+        assertCommandFailure(new RunCommand(scriptPath), model, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 1,
+                RunCommand.MESSAGE_NESTED_RUN, scriptPath));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+
+        assertCommandFailure(new RunCommand(scriptPath), model,
+                String.format(RunCommand.MESSAGE_CANNOT_READ_FILE, scriptPath));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Paths.get("first.txt"));
+        RunCommand runSecondCommand = new RunCommand(Paths.get("second.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path scriptPath = Paths.get("script.txt");
+        RunCommand runCommand = new RunCommand(scriptPath);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptPath=" + scriptPath + "}";
+        assertEquals(expected, runCommand.toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, Arrays.asList(lines));
+        return scriptPath;
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.LatencyHistogram;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final CommandMetrics metrics = new CommandMetrics(new LatencyHistogram());
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_commandsRecorded_showsReport() {
+        metrics.getStats(ListCommand.class).record(Phase.PARSE, 1000);
+        String report = new StatsCommand(metrics).execute(model).getFeedbackToUser();
+        assertTrue(report.contains("list (1)"), report);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new ListCommand()));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics(new LatencyHistogram()))));
+    }
+}
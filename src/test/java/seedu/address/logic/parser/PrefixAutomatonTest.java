@@ -0,0 +1,176 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOUSING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAJOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixAutomatonTest {
+
+    private static final Prefix[] COMMAND_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_YEAR,
+        PREFIX_MAJOR, PREFIX_HOUSING, PREFIX_LINK, PREFIX_TAG};
+    /** Prefixes that share characters, are prefixes of each other, contain spaces or are not ASCII. */
+    private static final Prefix[] TRICKY_PREFIXES = {new Prefix("p/"), new Prefix("/"), new Prefix("-t"),
+        new Prefix("^Q"), new Prefix("pp/"), new Prefix("p"), new Prefix(""), new Prefix("a b"), new Prefix("t/p/"),
+        new Prefix("\u00e9/"), new Prefix(" p/")};
+    private static final String TRICKY_CHARACTERS = " pt/-^Qab\u00e9\t";
+
+    @Test
+    public void tokenize_addCommandArguments_sameAsArgumentTokenizer() {
+        String argsString = " n/Amy Bee p/85355255 e/amy@example.com y/2 m/Computer Science "
+                + "h/Blk 30 Geylang Street 29 l/https://nusmods.com/timetable/sem-2/share?CS2101=&CS2103T=LEC:G12 "
+                + "t/friends t/colleagues p/91234567";
+        ArgumentMultimap argMultimap = new PrefixAutomaton(COMMAND_PREFIXES).tokenize(argsString);
+
+        assertEquals("", argMultimap.getPreamble());
+        assertEquals(List.of("85355255", "91234567"), argMultimap.getAllValues(PREFIX_PHONE));
+        assertEquals(List.of("friends", "colleagues"), argMultimap.getAllValues(PREFIX_TAG));
+        assertEquals("Computer Science", argMultimap.getValue(PREFIX_MAJOR).get());
+        assertEquals(describe(() -> LegacyArgumentTokenizer.tokenize(argsString, COMMAND_PREFIXES), COMMAND_PREFIXES),
+                describe(() -> argMultimap, COMMAND_PREFIXES));
+    }
+
+    @Test
+    public void tokenize_prefixWithinAnotherPrefix_throwsLikeArgumentTokenizer() {
+        Prefix[] prefixes = {new Prefix("t/"), new Prefix("t/p/")};
+        PrefixAutomaton prefixAutomaton = new PrefixAutomaton(prefixes);
+        assertThrows(StringIndexOutOfBoundsException.class, () -> prefixAutomaton.tokenize("a t/p/b"));
+        assertThrows(StringIndexOutOfBoundsException.class, () ->
+                LegacyArgumentTokenizer.tokenize("a t/p/b", prefixes));
+
+        // only the shorter prefix present
+        assertEquals(List.of("x"), prefixAutomaton.tokenize("a t/x").getAllValues(prefixes[0]));
+    }
+
+    @Test
+    public void tokenize_randomArguments_sameAsPreviousImplementation() {
+        Random random = new Random(2103);
+        for (int run = 0; run < 20000; run++) {
+            Prefix[] prefixes = randomPrefixes(random);
+            String argsString = randomArguments(random, prefixes);
+
+            Map<String, Object> expected = describe(() -> LegacyArgumentTokenizer.tokenize(argsString, prefixes),
+                    prefixes);
+            Map<String, Object> actual = describe(() -> new PrefixAutomaton(prefixes).tokenize(argsString), prefixes);
+            assertEquals(expected, actual, "Prefixes " + Arrays.toString(prefixes) + " in \"" + argsString + "\"");
+        }
+    }
+
+    private static Prefix[] randomPrefixes(Random random) {
+        Prefix[] pool = random.nextInt(3) == 0 ? TRICKY_PREFIXES : COMMAND_PREFIXES;
+        int count = random.nextInt(pool.length + 1);
+        List<Prefix> prefixes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Occasionally repeat a prefix.
+            prefixes.add(pool[random.nextInt(pool.length)]);
+        }
+        return prefixes.toArray(new Prefix[0]);
+    }
+
+    private static String randomArguments(Random random, Prefix[] prefixes) {
+        StringBuilder argsString = new StringBuilder();
+        int length = random.nextInt(40);
+        while (argsString.length() < length) {
+            int choice = random.nextInt(4);
+            if (choice == 0 && prefixes.length > 0) {
+                argsString.append(' ').append(prefixes[random.nextInt(prefixes.length)].getPrefix());
+            } else if (choice == 1) {
+                argsString.append(COMMAND_PREFIXES[random.nextInt(COMMAND_PREFIXES.length)].getPrefix());
+            } else {
+                argsString.append(TRICKY_CHARACTERS.charAt(random.nextInt(TRICKY_CHARACTERS.length())));
+            }
+        }
+        return argsString.toString();
+    }
+
+    /**
+     * Returns the values of the preamble and every prefix in {@code prefixes} in the map returned by
+     * {@code tokenizer}, or the exception it threw.
+     */
+    private static Map<String, Object> describe(Supplier<ArgumentMultimap> tokenizer, Prefix[] prefixes) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        ArgumentMultimap argMultimap;
+        try {
+            argMultimap = tokenizer.get();
+        } catch (RuntimeException e) {
+            description.put("exception", e.getClass().getName() + ": " + e.getMessage());
+            return description;
+        }
+        description.put("preamble", argMultimap.getAllValues(new Prefix("")));
+        for (Prefix prefix : prefixes) {
+            description.put(prefix.getPrefix(), argMultimap.getAllValues(prefix));
+        }
+        return description;
+    }
+
+    /**
+     * The implementation of {@link ArgumentTokenizer#tokenize(String, Prefix...)} before it used
+     * {@link PrefixAutomaton}, searching for each prefix separately.
+     */
+    private static class LegacyArgumentTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<PrefixPosition> positions = Arrays.stream(prefixes)
+                    .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
+                    .collect(Collectors.toList());
+            return extractArguments(argsString, positions);
+        }
+
+        private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+            List<PrefixPosition> positions = new ArrayList<>();
+            int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
+            while (prefixPosition != -1) {
+                positions.add(new PrefixPosition(prefix, prefixPosition));
+                prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+            }
+            return positions;
+        }
+
+        private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+            int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+            return prefixIndex == -1 ? -1 : prefixIndex + 1;
+        }
+
+        private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
+            prefixPositions.sort((prefix1, prefix2) -> prefix1.startPosition - prefix2.startPosition);
+            prefixPositions.add(0, new PrefixPosition(new Prefix(""), 0));
+            prefixPositions.add(new PrefixPosition(new Prefix(""), argsString.length()));
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            for (int i = 0; i < prefixPositions.size() - 1; i++) {
+                PrefixPosition current = prefixPositions.get(i);
+                int valueStartPos = current.startPosition + current.prefix.getPrefix().length();
+                String value = argsString.substring(valueStartPos, prefixPositions.get(i + 1).startPosition);
+                argMultimap.put(current.prefix, value.trim());
+            }
+            return argMultimap;
+        }
+
+        private static class PrefixPosition {
+            private final Prefix prefix;
+            private final int startPosition;
+
+            PrefixPosition(Prefix prefix, int startPosition) {
+                this.prefix = prefix;
+                this.startPosition = startPosition;
+            }
+        }
+    }
+}
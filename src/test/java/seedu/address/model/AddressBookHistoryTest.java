@@ -0,0 +1,175 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookHistoryTest {
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_negativeMaxBytes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(-1));
+    }
+
+    @Test
+    public void undo_eachKindOfChange_restoresPersonsInOrder() {
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+        model.deletePersons(Arrays.asList(DANIEL, ALICE));
+        model.commitAddressBook();
+        model.setPerson(CARL, editedCarl);
+        model.commitAddressBook();
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        List<List<Person>> states = new ArrayList<>();
+
+        while (model.canUndoAddressBook()) {
+            states.add(new ArrayList<>(model.getAddressBook().getPersonList()));
+            model.undoAddressBook();
+        }
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+        assertEquals(5, states.size());
+
+        Collections.reverse(states);
+        for (List<Person> state : states) {
+            model.redoAddressBook();
+            assertEquals(state, model.getAddressBook().getPersonList());
+        }
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void undo_severalChangesCommittedTogether_undoesAllOfThem() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThem() {
+        model.addPerson(AMY);
+        assertTrue(model.canUndoAddressBook());
+        model.undoAddressBook();
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_forgetsRedoableVersions() {
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertTrue(model.canRedoAddressBook());
+
+        model.addPerson(BOB);
+        assertFalse(model.canRedoAddressBook());
+        model.commitAddressBook();
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void commit_budgetExceeded_forgetsOldestVersions() {
+        AddressBook addressBook = new AddressBook();
+        long bytesPerAdd = AddressBookHistory.estimateBytes(AMY);
+        AddressBookHistory history = new AddressBookHistory(2 * bytesPerAdd + 500);
+        for (Person person : Arrays.asList(AMY, BOB, ALICE)) {
+            addressBook.addPerson(person);
+            history.recordAdded(Collections.singletonList(person));
+            history.commit();
+        }
+        assertTrue(history.getCommittedBytes() <= 2 * bytesPerAdd + 500);
+
+        history.undo(addressBook);
+        history.undo(addressBook);
+        assertEquals(Collections.singletonList(AMY), addressBook.getPersonList());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_versionLargerThanBudget_keepsLatestVersion() {
+        AddressBook addressBook = new AddressBook();
+        AddressBookHistory history = new AddressBookHistory(0);
+        addressBook.addPerson(AMY);
+        history.recordAdded(Collections.singletonList(AMY));
+        history.commit();
+
+        assertTrue(history.canUndo());
+        history.undo(addressBook);
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void replay_changesInEffect_madeAndRecordedAsTheyWere() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        AddressBookHistory copyHistory = new AddressBookHistory(Long.MAX_VALUE);
+        copy.addPerson(AMY);
+        copyHistory.recordAdded(Collections.singletonList(AMY));
+        copyHistory.commit();
+        copy.removePerson(BENSON);
+        copyHistory.recordRemoved(Collections.singletonList(BENSON), new int[] {1});
+        copyHistory.commit();
+        copyHistory.undo(copy);
+        copy.addPerson(BOB);
+        copyHistory.recordAdded(Collections.singletonList(BOB));
+
+        AddressBook addressBook = new AddressBook(getTypicalAddressBook());
+        AddressBookHistory history = new AddressBookHistory(AddressBookHistory.DEFAULT_MAX_BYTES);
+        history.replay(copyHistory, addressBook);
+        history.commit();
+        assertEquals(copy, addressBook);
+        // only the added persons are kept, not the whole address book
+        assertTrue(history.getCommittedBytes() < AddressBookHistory.estimateBytes(AMY)
+                + AddressBookHistory.estimateBytes(BOB) + 500);
+
+        history.undo(addressBook);
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void replay_versionsForgotten_throwsIllegalStateException() {
+        AddressBook copy = new AddressBook();
+        AddressBookHistory copyHistory = new AddressBookHistory(0);
+        for (Person person : Arrays.asList(AMY, BOB)) {
+            copy.addPerson(person);
+            copyHistory.recordAdded(Collections.singletonList(person));
+            copyHistory.commit();
+        }
+
+        assertThrows(IllegalStateException.class, () -> new AddressBookHistory(AddressBookHistory.DEFAULT_MAX_BYTES)
+                .replay(copyHistory, new AddressBook()));
+    }
+
+    @Test
+    public void estimateBytes_morePersonDetails_moreBytes() {
+        Person plainAmy = new PersonBuilder().withName(AMY.getName().fullName).build();
+        assertTrue(AddressBookHistory.estimateBytes(AMY) > AddressBookHistory.estimateBytes(plainAmy));
+    }
+}
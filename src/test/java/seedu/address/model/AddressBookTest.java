@@ -7,12 +7,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_HOUSING_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +81,51 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getNamesContainingAnyWord_nullWords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.getNamesContainingAnyWord(null));
+    }
+
+    @Test
+    public void getNamesContainingAnyWord_afterSetPerson_reflectsEditedName() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptySet(), addressBook.getNamesContainingAnyWord(List.of("alice")));
+        assertEquals(Set.of(editedAlice.getName()), addressBook.getNamesContainingAnyWord(List.of("ALICIA")));
+    }
+
+    @Test
+    public void getNamesTakingAnyModule_nullModuleCodes_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.getNamesTakingAnyModule(null));
+    }
+
+    @Test
+    public void getNamesTakingAnyModule_afterResetData_returnsMatchingNames() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of(FIONA.getName()), addressBook.getNamesTakingAnyModule(List.of("cs3230")));
+        assertEquals(Set.of(DANIEL.getName(), FIONA.getName()),
+                addressBook.getNamesTakingAnyModule(List.of("CS2107(TA)", "CS3230")));
+        assertEquals(Collections.emptySet(), addressBook.getNamesTakingAnyModule(List.of("CS2107")));
+    }
+
+    @Test
+    public void getNamesTakingAnyModule_afterSetPerson_reflectsEditedModules() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE)
+                .withLink("https://nusmods.com/timetable/sem-2/share?CS3230=LEC:1").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptySet(), addressBook.getNamesTakingAnyModule(List.of("CS2103T")));
+        assertEquals(Set.of(ALICE.getName()), addressBook.getNamesTakingAnyModule(List.of("CS3230")));
+    }
+
+    @Test
+    public void getNamesTakingAnyModule_afterRemovePerson_returnsEmptySet() {
+        addressBook.addPerson(ALICE);
+        addressBook.removePerson(ALICE);
+        assertEquals(Collections.emptySet(), addressBook.getNamesTakingAnyModule(List.of("CS2103T")));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
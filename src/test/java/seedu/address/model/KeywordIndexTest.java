@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordIndexTest {
+
+    private final KeywordIndex index = new KeywordIndex(person ->
+            Arrays.asList(person.getName().fullName.split("\\s+")));
+
+    @Test
+    public void constructor_nullExtractor_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordIndex(null));
+    }
+
+    @Test
+    public void getNamesMatchingAny_emptyIndex_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), index.getNamesMatchingAny(List.of("Alice")));
+    }
+
+    @Test
+    public void getNamesMatchingAny_ignoresCase() {
+        index.add(ALICE);
+        assertEquals(Set.of(ALICE.getName()), index.getNamesMatchingAny(List.of("aLiCe")));
+        assertEquals(Set.of(ALICE.getName()), index.getNamesMatchingAny(List.of("PAULINE")));
+    }
+
+    @Test
+    public void getNamesMatchingAny_multipleKeywords_returnsUnion() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+        assertEquals(Set.of(ALICE.getName(), DANIEL.getName()),
+                index.getNamesMatchingAny(List.of("Pauline", "Daniel", "Carl")));
+    }
+
+    @Test
+    public void getNamesMatchingAny_partialWord_returnsEmptySet() {
+        index.add(ALICE);
+        assertEquals(Collections.emptySet(), index.getNamesMatchingAny(List.of("Ali")));
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerMatched() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertEquals(Collections.emptySet(), index.getNamesMatchingAny(List.of("Alice")));
+        assertEquals(Set.of(BENSON.getName()), index.getNamesMatchingAny(List.of("Benson")));
+    }
+
+    @Test
+    public void remove_personNotInIndex_doesNothing() {
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertEquals(Set.of(BENSON.getName()), index.getNamesMatchingAny(List.of("Benson")));
+    }
+
+    @Test
+    public void setPersons_replacesContents() {
+        index.add(ALICE);
+        index.setPersons(List.of(BENSON));
+        assertEquals(Collections.emptySet(), index.getNamesMatchingAny(List.of("Alice")));
+        assertEquals(Set.of(BENSON.getName()), index.getNamesMatchingAny(List.of("Benson")));
+    }
+}
@@ -7,16 +7,26 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ModContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +103,152 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonListByName_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonListByName(null));
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_singleWords_sameAsPredicate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("alice", "MEIER"));
+        modelManager.updateFilteredPersonListByName(predicate);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_untrimmedKeyword_fallsBackToPredicate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(List.of(" Benson ")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByModules_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonListByModules(null));
+    }
+
+    @Test
+    public void updateFilteredPersonListByModules_noMatchingModule_showsNoPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonListByModules(new ModContainsKeywordsPredicate(List.of("CS1010")));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPersons_filteredList_showsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(person -> false);
+        modelManager.addPersons(Arrays.asList(BENSON, CARL));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.hasPerson(CARL));
+    }
+
+    @Test
+    public void deletePersons_existingPersons_removesPersons() {
+        modelManager.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        modelManager.deletePersons(Arrays.asList(ALICE, CARL));
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getFilteredPersonList_executor_changedOnlyByExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        modelManager.addPerson(ALICE);
+        ObservableList<Person> mirror = modelManager.getFilteredPersonList(tasks::add);
+        assertEquals(Collections.singletonList(ALICE), mirror);
+
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertEquals(Collections.singletonList(ALICE), mirror);
+
+        tasks.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(BENSON), mirror);
+    }
+
+    @Test
+    public void getAddressBookSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(Collections.singletonList(BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_writeLockHeldByOtherThread_doesNotWait() throws Exception {
+        modelManager.addPerson(ALICE);
+        // the lock stays held by the writer after it ends
+        Thread writer = new Thread(() -> modelManager.getLock().writeLock().lock());
+        writer.start();
+        writer.join();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void addPerson_readLockHeld_waitsForReaders() throws Exception {
+        ReentrantReadWriteLock lock = (ReentrantReadWriteLock) modelManager.getLock();
+        Thread writer = new Thread(() -> modelManager.addPerson(ALICE));
+        lock.readLock().lock();
+        try {
+            writer.start();
+            while (!lock.hasQueuedThread(writer)) {
+                Thread.yield();
+            }
+            assertFalse(modelManager.hasPerson(ALICE));
+        } finally {
+            lock.readLock().unlock();
+        }
+        writer.join();
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getAddressBook_readersWithWriter_readersSeeWholeChanges() throws Exception {
+        int personCount = 300;
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < personCount; i++) {
+                modelManager.addPersons(Arrays.asList(new PersonBuilder().withName("Person " + i + " a").build(),
+                        new PersonBuilder().withName("Person " + i + " b").build()));
+            }
+        });
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            readers.add(new Thread(() -> {
+                try {
+                    while (writer.isAlive()) {
+                        modelManager.getLock().readLock().lock();
+                        try {
+                            List<Person> persons = modelManager.getAddressBook().getPersonList();
+                            // persons are only ever added in pairs
+                            assertEquals(0, persons.size() % 2);
+                            persons.forEach(person -> assertTrue(modelManager.hasPerson(person)));
+                        } finally {
+                            modelManager.getLock().readLock().unlock();
+                        }
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }));
+        }
+
+        writer.start();
+        readers.forEach(Thread::start);
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(Collections.emptyList(), new ArrayList<>(failures));
+        assertEquals(2 * personCount, modelManager.getAddressBook().getPersonList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,13 +1,23 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
 
+    /** The regular expression emails were validated with before, which backtracks exponentially on some inputs. */
+    private static final String PREVIOUS_VALIDATION_REGEX = "^[^\\W_]+([+_.-][^\\W_]+)*"
+            + "@([^\\W_]+(-[^\\W_]+)*\\.)*([^\\W_]+(-[^\\W_]+)*){2,}$";
+    private static final String EMAIL_CHARACTERS = "aB7+_.-@ \u00e9";
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Email(null));
@@ -64,6 +74,36 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("peter_jack@very-very-very-long-example.com")); // long domain name
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
+        assertTrue(Email.isValidEmail("a@bc-d")); // two alphanumeric characters in a row in the last domain label
+        assertFalse(Email.isValidEmail("a@b-c")); // no two alphanumeric characters in a row in the last domain label
+        assertFalse(Email.isValidEmail("a@bc.d-e")); // ... only in an earlier domain label
+    }
+
+    @Test
+    public void isValidEmail_randomEmails_sameAsPreviousRegex() {
+        Random random = new Random(2103);
+        for (int run = 0; run < 20000; run++) {
+            StringBuilder email = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                email.append(EMAIL_CHARACTERS.charAt(random.nextInt(EMAIL_CHARACTERS.length())));
+            }
+            String test = email.toString();
+            assertEquals(test.matches(PREVIOUS_VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+    }
+
+    @Test
+    public void isValidEmail_adversarialEmails_returnsQuickly() {
+        // Each of these made the previous regex backtrack for longer than the age of the universe.
+        String[] emails = {"a@" + "a".repeat(10_000) + "!", "a@" + "a-".repeat(5_000) + "!",
+            "a".repeat(10_000) + "@" + "a".repeat(10_000) + ".", "a@" + "ab.".repeat(3_000) + "a-a"};
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (String email : emails) {
+                assertFalse(Email.isValidEmail(email));
+            }
+        });
+        assertTrue(Email.isValidEmail("a".repeat(10_000) + "@" + "a".repeat(10_000)));
     }
 
     @Test
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_HOUSING_BOB;
@@ -138,6 +139,18 @@ public class PersonTest {
         assertEquals(new HashSet<ModuleCode>(), emptyAlice.getModules());
     }
 
+    @Test
+    public void getModules_calledTwice_returnsSameSet() {
+        assertSame(ALICE.getModules(), ALICE.getModules());
+    }
+
+    @Test
+    public void getModules_modifySet_throwsUnsupportedOperationException() {
+        Person person = new PersonBuilder().build();
+        assertThrows(UnsupportedOperationException.class, () -> person.getModules().clear());
+        assertThrows(UnsupportedOperationException.class, () -> ALICE.getModules().clear());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone="
@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ShareLinkTest {
+
+    private static final String PREFIX = "https://nusmods.com/timetable/sem-2/share";
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ShareLink.parse(null));
+    }
+
+    @Test
+    public void parse_invalidLink_returnsEmpty() {
+        assertFalse(ShareLink.parse("").isPresent());
+        assertFalse(ShareLink.parse("http://nusmods.com/timetable/sem-2/share").isPresent()); // not https
+        assertFalse(ShareLink.parse("https://nusmods.org/timetable/sem-2/share").isPresent()); // wrong host
+        assertFalse(ShareLink.parse("https://nusmods.com/timetable/sem-3/share").isPresent()); // wrong semester
+        assertFalse(ShareLink.parse("https://nusmods.com/timetable/st-iii/share").isPresent()); // wrong semester
+        assertFalse(ShareLink.parse(PREFIX + "d?CS2101").isPresent()); // path too long
+        assertFalse(ShareLink.parse(PREFIX + "?CS2101 ").isPresent()); // space in query
+        assertFalse(ShareLink.parse(PREFIX + "?CS2101=%G1").isPresent()); // bad escape
+        assertFalse(ShareLink.parse(PREFIX + "?CS2101&&CS2103T").isPresent()); // empty pair
+        assertFalse(ShareLink.parse(PREFIX + "?=LEC:1").isPresent()); // empty key
+        assertFalse(ShareLink.parse(PREFIX + "?CS21").isPresent()); // invalid module code
+        assertFalse(ShareLink.parse(PREFIX + "?ta=").isPresent()); // empty ta value
+        assertFalse(ShareLink.parse(PREFIX + "#a b").isPresent()); // space in fragment
+    }
+
+    @Test
+    public void parse_authorityWithUserInfoOrPort_accepted() {
+        String path = "/timetable/sem-2/share?CS2101=";
+        for (String authority : List.of("nusmods.com:443", "nusmods.com:", "u@nusmods.com",
+                "a:b%20c@nusmods.com:8080")) {
+            assertEquals(Set.of("CS2101"), ShareLink.parse("https://" + authority + path).get().getModuleCodes());
+        }
+
+        assertFalse(ShareLink.parse("https://nusmods.com:44a" + path).isPresent()); // port not a number
+        assertFalse(ShareLink.parse("https://nusmods.com:2147483648" + path).isPresent()); // port too large
+        assertFalse(ShareLink.parse("https://a b@nusmods.com" + path).isPresent()); // space in user information
+        assertFalse(ShareLink.parse("https://u@nusmods.com.sg" + path).isPresent()); // wrong host
+    }
+
+    @Test
+    public void parse_percentEncodedPath_decoded() {
+        assertEquals("sem-1", ShareLink.parse("https://nusmods.com/timetable/sem-%31/share").get().getSemester());
+        assertEquals("st-ii", ShareLink.parse("https://nusmods.com/%74imetable%2Fst-ii/shar%65?CS2101")
+                .get().getSemester());
+
+        assertFalse(ShareLink.parse("https://nusmods.com/timetable/sem-%3/share").isPresent()); // bad escape
+        assertFalse(ShareLink.parse("https://nusmods.com/timetable/sem-%33/share").isPresent()); // wrong semester
+    }
+
+    @Test
+    public void parse_validLink_returnsParts() {
+        ShareLink shareLink = ShareLink.parse(PREFIX + "?CS2040S=TUT:60,LEC:1&CS2101=&CS3230"
+                + "&ta=CS2040S(TUT:60),CS3230(TUT:10)&hidden=CS2101").get();
+        assertEquals("sem-2", shareLink.getSemester());
+        assertEquals(Set.of("CS2040S(TA)", "CS2101", "CS3230(TA)"), shareLink.getModuleCodes());
+        assertEquals(List.of("CS2040S", "CS2101", "CS3230"), List.copyOf(shareLink.getLessons().keySet()));
+        assertEquals("TUT:60,LEC:1", shareLink.getLessons().get("CS2040S"));
+        assertEquals("", shareLink.getLessons().get("CS3230"));
+        assertEquals(Set.of("CS2040S", "CS3230"), shareLink.getTaModules());
+        assertEquals(Set.of("CS2101"), shareLink.getHiddenModules());
+    }
+
+    @Test
+    public void parse_noQuery_returnsEmptyParts() {
+        for (String link : List.of(PREFIX, PREFIX + "?", PREFIX + "?&", PREFIX + "#top")) {
+            ShareLink shareLink = ShareLink.parse(link).get();
+            assertTrue(shareLink.getModuleCodes().isEmpty());
+            assertEquals(Map.of(), shareLink.getLessons());
+        }
+        assertEquals("st-ii", ShareLink.parse("https://nusmods.com/timetable/st-ii/share").get().getSemester());
+    }
+
+    @Test
+    public void parse_fragment_ignored() {
+        assertEquals(Set.of("CS2101"), ShareLink.parse(PREFIX + "?CS2101=#?CS2103T").get().getModuleCodes());
+    }
+
+    @Test
+    public void parse_taEntryWithoutLessons_keepsModuleCode() {
+        assertEquals(Set.of("CS3230"), ShareLink.parse(PREFIX + "?ta=CS3230").get().getModuleCodes());
+        assertEquals(Set.of("CS2101", "CS3230(TA)"),
+                ShareLink.parse(PREFIX + "?ta=CS2101),CS3230(TUT:10)").get().getModuleCodes());
+    }
+
+    @Test
+    public void parse_percentEscapes_accepted() {
+        Optional<ShareLink> shareLink = ShareLink.parse(PREFIX + "?CS2040S=TUT%3A60%2CLEC%3A1");
+        assertEquals("TUT%3A60%2CLEC%3A1", shareLink.get().getLessons().get("CS2040S"));
+    }
+
+    @Test
+    public void equals() {
+        ShareLink shareLink = ShareLink.parse(PREFIX + "?CS2101=").get();
+
+        // same values -> returns true
+        assertTrue(shareLink.equals(ShareLink.parse(PREFIX + "?CS2101=").get()));
+
+        // same object -> returns true
+        assertTrue(shareLink.equals(shareLink));
+
+        // null -> returns false
+        assertFalse(shareLink.equals(null));
+
+        // different types -> returns false
+        assertFalse(shareLink.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(shareLink.equals(ShareLink.parse(PREFIX + "?CS2101=SEC:1").get()));
+        assertFalse(shareLink.equals(ShareLink.parse("https://nusmods.com/timetable/sem-1/share?CS2101=").get()));
+    }
+}
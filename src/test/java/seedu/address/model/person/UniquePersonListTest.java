@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +16,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -102,6 +104,23 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_targetPersonHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withHousing(VALID_HOUSING_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +146,72 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withHousing(VALID_HOUSING_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.remove(BOB);
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void addAll_persons_addedInOneChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_duplicatePerson_throwsDuplicatePersonExceptionAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withHousing(VALID_HOUSING_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, editedAlice)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void removeAll_persons_removedInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.removeAll(Arrays.asList(ALICE, BOB));
+        assertEquals(Collections.singletonList(CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        // positions of the remaining persons are still known
+        uniquePersonList.remove(CARL);
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void removeAll_personNotInList_throwsPersonNotFoundExceptionAndLeavesListUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withHousing(VALID_HOUSING_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(BOB, CARL)));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(editedAlice)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -156,12 +241,62 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesOldIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withHousing(VALID_HOUSING_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        List<Person> snapshot = uniquePersonList.getSnapshot();
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Arrays.asList(ALICE, BOB), snapshot);
+    }
+
+    @Test
+    public void getSnapshot_afterEachChange_equalsList() {
+        uniquePersonList.add(ALICE);
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot());
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot());
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build());
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot());
+        uniquePersonList.remove(ALICE);
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot());
+        uniquePersonList.removeAll(Collections.singletonList(CARL));
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot());
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(CARL);
+        uniquePersonList.setPersons(replacement);
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> uniquePersonList.getSnapshot().remove(0));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
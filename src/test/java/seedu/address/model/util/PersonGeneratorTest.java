@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.mod.ModuleCode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+public class PersonGeneratorTest {
+
+    @Test
+    public void generate_sameSeed_samePersons() {
+        assertEquals(new PersonGenerator(42).generate(200), new PersonGenerator(42).generate(200));
+    }
+
+    @Test
+    public void generate_differentSeeds_differentPersons() {
+        assertNotEquals(new PersonGenerator(1).generate(200), new PersonGenerator(2).generate(200));
+    }
+
+    @Test
+    public void generate_moreThanOneRoundOfNames_allNamesDifferent() {
+        List<Person> persons = new PersonGenerator(7).generate(5000);
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            assertTrue(names.add(person.getName()), "Duplicate name " + person.getName());
+        }
+
+        // the persons can be held by an address book
+        UniquePersonList personList = new UniquePersonList();
+        personList.setPersons(persons);
+        assertEquals(5000, personList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void generate_manyPersons_modulesSkewedAndTeachingAssistantsPresent() {
+        Map<ModuleCode, Integer> moduleCounts = new HashMap<>();
+        boolean hasTeachingAssistant = false;
+        for (Person person : new PersonGenerator(3).generate(5000)) {
+            for (ModuleCode module : person.getModules()) {
+                moduleCounts.merge(module, 1, Integer::sum);
+                hasTeachingAssistant |= module.toString().contains("(TA)");
+            }
+        }
+
+        assertTrue(hasTeachingAssistant);
+        int mostTaken = moduleCounts.getOrDefault(new ModuleCode("CS1101S"), 0);
+        int leastTaken = moduleCounts.getOrDefault(new ModuleCode("CS5330"), 0);
+        assertTrue(mostTaken > 10 * leastTaken, mostTaken + " vs " + leastTaken);
+    }
+
+    @Test
+    public void iterator_count_generatesCountPersonsInOrder() {
+        Iterator<Person> iterator = new PersonGenerator(5).iterator(3);
+        List<Person> expected = new PersonGenerator(5).generate(3);
+        for (Person person : expected) {
+            assertTrue(iterator.hasNext());
+            assertEquals(person, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
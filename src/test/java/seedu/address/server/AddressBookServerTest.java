@@ -0,0 +1,186 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindModCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class AddressBookServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final HttpClient client = HttpClient.newHttpClient();
+    private AddressBookServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        server = new AddressBookServer(model, logic, 0, 4);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void execute_findCommand_returnsMatchingPersons() throws Exception {
+        AddressBookServer.CommandResponse response = server.execute(FindCommand.COMMAND_WORD + " Alice");
+
+        assertEquals(1, response.getPersons().size());
+        assertEquals(ALICE, response.getPersons().get(0).toModelType());
+        // the next command sees the full list again
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_commandNotServed_throwsParseException() {
+        assertThrows(ParseException.class, String.format(AddressBookServer.MESSAGE_COMMAND_NOT_SERVED,
+                ClearCommand.COMMAND_WORD), () -> server.execute(ClearCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void post_addCommand_personAdded() throws Exception {
+        HttpResponse<String> response = post(AddressBookServer.COMMANDS_PATH,
+                "{\"command\": \"" + PersonUtil.getAddCommand(AMY) + "\"}");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void post_failingCommand_badRequest() throws Exception {
+        HttpResponse<String> response = post(AddressBookServer.COMMANDS_PATH,
+                "{\"command\": \"" + DeleteCommand.COMMAND_WORD + " 100\"}");
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("\"error\""));
+    }
+
+    @Test
+    public void post_invalidBody_badRequest() throws Exception {
+        assertEquals(400, post(AddressBookServer.COMMANDS_PATH, "not json").statusCode());
+        assertEquals(400, post(AddressBookServer.COMMANDS_PATH, "{}").statusCode());
+    }
+
+    @Test
+    public void get_persons_returnsAllPersons() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uriOf(AddressBookServer.PERSONS_PATH))
+                .GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains(ALICE.getName().fullName));
+    }
+
+    @Test
+    public void get_unknownPath_notFound() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uriOf(AddressBookServer.PERSONS_PATH
+                + "/1")).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    public void post_concurrentAddCommands_allPersonsAdded() throws Exception {
+        int personCount = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            String command = "add n/Concurrent Person " + (char) ('a' + i / 26) + (char) ('a' + i % 26);
+            responses.add(executor.submit(() -> post(AddressBookServer.COMMANDS_PATH,
+                    "{\"command\": \"" + command + "\"}")));
+        }
+        for (Future<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get().statusCode());
+        }
+        executor.shutdown();
+
+        assertEquals(getTypicalAddressBook().getPersonList().size() + personCount,
+                server.getPersons().size());
+    }
+
+    @Test
+    public void post_queriesWhileWriteLockHeld_queriesRunTogether() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        model.getLock().writeLock().lock();
+        try {
+            // neither query waits for the write lock held by this thread, nor for the other query
+            List<String> commands = List.of(FindCommand.COMMAND_WORD + " Alice",
+                    FindModCommand.COMMAND_WORD + " CS2103T");
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (String command : commands) {
+                responses.add(executor.submit(() -> {
+                    bothStarted.countDown();
+                    assertTrue(bothStarted.await(10, TimeUnit.SECONDS));
+                    return post(AddressBookServer.COMMANDS_PATH, "{\"command\": \"" + command + "\"}");
+                }));
+            }
+            for (Future<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.get(10, TimeUnit.SECONDS).statusCode());
+            }
+            assertTrue(responses.get(0).get().body().contains(ALICE.getName().fullName));
+        } finally {
+            model.getLock().writeLock().unlock();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void execute_listCommand_returnsAllPersons() throws Exception {
+        AddressBookServer.CommandResponse response = server.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, response.getFeedback());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), response.getPersons().size());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uriOf(path)).POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uriOf(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+}
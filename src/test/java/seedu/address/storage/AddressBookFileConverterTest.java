@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getFormatOf() {
+        assertEquals(StorageFormat.JSON, AddressBookFileConverter.getFormatOf(Paths.get("data", "addressbook.json")));
+        assertEquals(StorageFormat.BINARY, AddressBookFileConverter.getFormatOf(Paths.get("data", "addressbook.bin")));
+        assertEquals(StorageFormat.BINARY, AddressBookFileConverter.getFormatOf(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+
+        AddressBookFileConverter.convert(jsonFilePath, binaryFilePath);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        assertEquals(addressBook, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        AddressBookFileConverter.convert(binaryFilePath, convertedFilePath);
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(convertedFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_throwsIoException() {
+        assertThrows(IOException.class, () -> AddressBookFileConverter.convert(testFolder.resolve("missing.json"),
+                testFolder.resolve("addressbook.bin")));
+    }
+
+}
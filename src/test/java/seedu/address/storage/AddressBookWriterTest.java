@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBookWriter(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")), -1));
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        AddressBookWriter writer = new AddressBookWriter(new CountingStorage(), 0);
+        assertThrows(NullPointerException.class, () -> writer.submit(null));
+    }
+
+    @Test
+    public void submit_zeroDelay_savesImmediately() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBookWriter writer = new AddressBookWriter(storage, 0);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.submit(addressBook);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void submit_burst_coalescedIntoOneSave() throws Exception {
+        CountingStorage storage = new CountingStorage();
+        AddressBookWriter writer = new AddressBookWriter(storage, TimeUnit.HOURS.toMillis(1));
+
+        AddressBook first = new AddressBook();
+        AddressBook last = getTypicalAddressBook();
+        writer.submit(first);
+        writer.submit(new AddressBook());
+        writer.submit(last);
+        assertTrue(storage.saved.isEmpty());
+
+        writer.flush();
+        assertEquals(List.of(last), storage.saved);
+
+        // nothing left to save
+        writer.flush();
+        assertEquals(1, storage.saved.size());
+        writer.close();
+    }
+
+    @Test
+    public void submit_delayElapsed_savedInBackground() throws Exception {
+        CountingStorage storage = new CountingStorage();
+        AddressBookWriter writer = new AddressBookWriter(storage, 1);
+
+        writer.submit(getTypicalAddressBook());
+        assertTrue(storage.firstSave.await(10, TimeUnit.SECONDS));
+        writer.close();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void flush_saveFails_keepsAddressBookForRetry() throws Exception {
+        CountingStorage storage = new CountingStorage();
+        storage.isFailing = true;
+        AddressBookWriter writer = new AddressBookWriter(storage, TimeUnit.HOURS.toMillis(1));
+
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.submit(addressBook);
+        assertThrows(IOException.class, writer::flush);
+
+        storage.isFailing = false;
+        writer.close();
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    @Test
+    public void backgroundSaveFails_errorHandlerCalled() throws Exception {
+        CountingStorage storage = new CountingStorage();
+        storage.isFailing = true;
+        AddressBookWriter writer = new AddressBookWriter(storage, 1);
+        CountDownLatch errorReported = new CountDownLatch(1);
+        writer.setErrorHandler(ioe -> errorReported.countDown());
+
+        writer.submit(getTypicalAddressBook());
+        assertTrue(errorReported.await(10, TimeUnit.SECONDS));
+        assertThrows(IOException.class, writer::close);
+    }
+
+    @Test
+    public void close_pendingAddressBook_saved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBookWriter writer = new AddressBookWriter(storage, TimeUnit.HOURS.toMillis(1));
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        writer.submit(addressBook);
+        assertFalse(Files.exists(filePath));
+
+        writer.close();
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    /**
+     * A storage that records the address books it is asked to save instead of writing them to a file.
+     */
+    private static class CountingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final CountDownLatch firstSave = new CountDownLatch(1);
+        private volatile boolean isFailing = false;
+
+        CountingStorage() {
+            super(Paths.get("CountingStorage.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy IO exception");
+            }
+            saved.add(addressBook);
+            firstSave.countDown();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournalAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        storage = new JournalAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_edits_appendedToJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        addressBook.addPerson(HOON);
+        assertSavedAndReadBack(addressBook);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        assertSavedAndReadBack(addressBook);
+        addressBook.removePerson(ALICE);
+        assertSavedAndReadBack(addressBook);
+        addressBook.setPersons(List.of());
+        assertSavedAndReadBack(addressBook);
+        addressBook.addPerson(IDA);
+        assertSavedAndReadBack(addressBook);
+
+        // the snapshot is untouched
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long journalLength = Files.size(journalFilePath);
+
+        storage.saveAddressBook(new AddressBook(addressBook));
+        assertEquals(journalLength, Files.size(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_reordered_compacted() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(ALICE, BENSON));
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPersons(List.of(BENSON, ALICE));
+        assertSavedAndReadBack(addressBook);
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornTrailingRecord_discarded() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook beforeLastEdit = new AddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        Files.write(journalFilePath, Arrays.copyOf(journal, journal.length - 3));
+        JournalAddressBookStorage recoveredStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(beforeLastEdit, new AddressBook(recoveredStorage.readAddressBook().get()));
+
+        // later records are appended after the last complete record
+        beforeLastEdit.addPerson(IDA);
+        recoveredStorage.saveAddressBook(beforeLastEdit);
+        assertEquals(beforeLastEdit, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        long firstRecordEnd = Files.size(journalFilePath);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        journal[(int) firstRecordEnd - 1] ^= 1;
+        Files.write(journalFilePath, journal);
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // a crash after writing a new snapshot, but before starting its journal
+        AddressBook snapshot = new AddressBook();
+        snapshot.addPerson(CARL);
+        new JsonAddressBookStorage(filePath).saveAddressBook(snapshot);
+        assertEquals(snapshot, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_fsyncAlways_success() throws Exception {
+        storage = new JournalAddressBookStorage(filePath, FsyncPolicy.ALWAYS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        assertSavedAndReadBack(addressBook);
+        storage.syncAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_binarySnapshot_success() throws Exception {
+        storage = new JournalAddressBookStorage(new BinaryAddressBookStorage(filePath), FsyncPolicy.NEVER);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        JournalAddressBookStorage recoveredStorage =
+                new JournalAddressBookStorage(new BinaryAddressBookStorage(filePath), FsyncPolicy.NEVER);
+        assertEquals(addressBook, new AddressBook(recoveredStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void diff() {
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Renamed").build();
+
+        assertEquals(0, JournalAddressBookStorage.diff(List.of(ALICE, BENSON), List.of(ALICE, BENSON)).size());
+        assertEquals(1, JournalAddressBookStorage.diff(List.of(ALICE), List.of(ALICE, BENSON)).size());
+        assertEquals(1, JournalAddressBookStorage.diff(List.of(ALICE, BENSON, CARL), List.of(ALICE, CARL)).size());
+        assertEquals(1, JournalAddressBookStorage.diff(List.of(ALICE, BENSON, CARL),
+                List.of(ALICE, renamedBenson, CARL)).size());
+        assertEquals(1, JournalAddressBookStorage.diff(List.of(ALICE, BENSON), List.of()).size());
+        assertEquals(2, JournalAddressBookStorage.diff(List.of(ALICE, BENSON, CARL), List.of(ALICE, CARL, HOON))
+                .size());
+
+        // reordered or inserted persons
+        assertNull(JournalAddressBookStorage.diff(List.of(ALICE, BENSON), List.of(BENSON, ALICE)));
+        assertNull(JournalAddressBookStorage.diff(List.of(ALICE, CARL), List.of(ALICE, BENSON, CARL)));
+    }
+
+    /**
+     * Saves {@code addressBook} and asserts that it is read back by a new storage.
+     */
+    private void assertSavedAndReadBack(AddressBook addressBook) throws Exception {
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
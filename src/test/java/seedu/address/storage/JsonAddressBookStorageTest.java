@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -15,9 +16,13 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.util.PersonGenerator;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +65,47 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_missingPersons_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("missingPersonsAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonThenNotJsonFormat_reportsNotJsonFormat() throws Exception {
+        DataLoadingException e = readAddressBookFailure("invalidPersonNotJsonFormatAddressBook.json");
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_reportsIllegalValue() throws Exception {
+        DataLoadingException e = readAddressBookFailure("invalidPersonAddressBook.json");
+        assertTrue(e.getCause() instanceof IllegalValueException);
+    }
+
+    /**
+     * Returns the {@code DataLoadingException} thrown when reading the address book at {@code filePath}.
+     */
+    private DataLoadingException readAddressBookFailure(String filePath) throws Exception {
+        try {
+            readAddressBook(filePath);
+        } catch (DataLoadingException e) {
+            return e;
+        }
+        throw new AssertionError("Reading " + filePath + " should have failed.");
+    }
+
+    @Test
+    public void readAddressBook_extraFields_ignored() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("extraFieldsAddressBook.json").get();
+        assertEquals(1, addressBook.getPersonList().size());
+        assertEquals(new Name("Valid Person"), addressBook.getPersonList().get(0).getName());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +132,28 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_fsyncAlways_success() throws Exception {
+        Path filePath = testFolder.resolve("missing").resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, FsyncPolicy.ALWAYS);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.syncAddressBook();
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void savePersons_generatedPersons_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("missing").resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.savePersons(new PersonGenerator(1).iterator(500), filePath);
+        AddressBook expected = new AddressBook();
+        expected.setPersons(new PersonGenerator(1).generate(500));
+        assertEquals(expected, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));